@@ -5,14 +5,22 @@ import info.magnolia.module.site.Site;
 import info.magnolia.module.site.SiteManager;
 
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import jakarta.annotation.Nullable;
 import javax.jcr.Node;
 
 public abstract class AbstractLocalizedNameProvider implements LocalizedNameProvider {
+	private static final int MAX_CACHED_NAMES_PER_LOCALE = 10_000;
 	private final Function<Optional<Node>, I18nContentSupport> i18nContentSupportProvider;
+	/**
+	 * locale -> name -> localized name.<br>
+	 * Independent of the site configuration (the default locale is still checked per call), so it never gets stale if the site i18n changes.
+	 */
+	private final Map<Locale, Map<String, String>> localizedNames = new ConcurrentHashMap<>();
 
 	protected AbstractLocalizedNameProvider(
 			final SiteManager siteManager,
@@ -21,6 +29,16 @@ public abstract class AbstractLocalizedNameProvider implements LocalizedNameProv
 		this.i18nContentSupportProvider = (node) -> node.map(siteManager::getAssignedSite).map(Site::getI18n).orElse(i18nContentSupport);
 	}
 
+	/**
+	 * Resolves the site of a node by path prefix, see {@link SiteResolutionCache}.
+	 */
+	protected AbstractLocalizedNameProvider(
+			final SiteResolutionCache siteResolutionCache,
+			final I18nContentSupport i18nContentSupport
+	) {
+		this.i18nContentSupportProvider = (node) -> node.map(siteResolutionCache::getAssignedSite).map(Site::getI18n).orElse(i18nContentSupport);
+	}
+
 	protected AbstractLocalizedNameProvider(final Function<Optional<Node>, I18nContentSupport> i18nContentSupportProvider) {
 		this.i18nContentSupportProvider = i18nContentSupportProvider;
 	}
@@ -29,11 +47,32 @@ public abstract class AbstractLocalizedNameProvider implements LocalizedNameProv
 	public String getLocalizedPropertyName(@Nullable final Node node, final String propertyName, final Locale locale) {
 		final I18nContentSupport i18nContentSupport = i18nContentSupportProvider.apply(Optional.ofNullable(node));
 		if (!isDefaultLocale(i18nContentSupport.getDefaultLocale(), locale)) {
-			return appendLocaleSuffix(propertyName, locale);
+			return getSuffixedName(propertyName, locale);
 		}
 		return propertyName;
 	}
 
+	private String getSuffixedName(final String name, final Locale locale) {
+		final Map<String, String> names = localizedNames.computeIfAbsent(locale, key -> new ConcurrentHashMap<>());
+		@Nullable
+		final String cached = names.get(name);
+		if (cached != null) {
+			return cached;
+		}
+		final String localizedName = appendLocaleSuffix(name, locale);
+		if (names.size() < MAX_CACHED_NAMES_PER_LOCALE) {
+			names.put(name, localizedName);
+		}
+		return localizedName;
+	}
+
+	/**
+	 * Clears the memoized names, e.g. if a subclass changes how suffixes are built at runtime.
+	 */
+	public void invalidate() {
+		localizedNames.clear();
+	}
+
 	@Override
 	public String getLocalizedNodeName(@Nullable final Node node, final String nodeName, final Locale locale) {
 		return getLocalizedPropertyName(node, nodeName, locale);
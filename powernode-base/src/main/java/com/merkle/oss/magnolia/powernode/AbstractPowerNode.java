@@ -4,13 +4,23 @@ import info.magnolia.jcr.decoration.ContentDecoratorNodeWrapper;
 import info.magnolia.jcr.util.NodeTypes;
 import info.magnolia.jcr.wrapper.DelegateNodeWrapper;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import jakarta.annotation.Nullable;
@@ -21,6 +31,8 @@ import javax.jcr.Session;
 
 public abstract class AbstractPowerNode<N extends AbstractPowerNode<N>> extends ContentDecoratorNodeWrapper<AbstractPowerNodeDecorator<N>> {
 	private final NodeService nodeService;
+	@Nullable
+	private volatile NodeKey nodeKey;
 
 	protected AbstractPowerNode(
 			final NodeService nodeService,
@@ -68,16 +80,23 @@ public abstract class AbstractPowerNode<N extends AbstractPowerNode<N>> extends
 		nodeService.rename(getWrappedNode(), newName);
 	}
 
+	/**
+	 * @see NodeService#renameAll(Node, Map)
+	 */
+	public void renameAll(final Map<String, String> newNames) {
+		nodeService.renameAll(getWrappedNode(), newNames);
+	}
+
 	public void move(final Node newParent) {
 		nodeService.move(getWrappedNode(), newParent);
 	}
 
 	public void copy(final Node dest) {
-		nodeService.copy(getWrappedNode(), dest, ignored -> false, ignored -> true, (ignored, ignored2) -> {});
+		nodeService.copy(getWrappedNode(), dest);
 	}
 
 	public void copyRecursive(final Node dest) {
-		nodeService.copy(getWrappedNode(), dest, ignored -> true, ignored -> true, (ignored, ignored2) -> {});
+		nodeService.copyRecursive(getWrappedNode(), dest);
 	}
 
 	public void copy(final Node dest, final Predicate<N> recursiveChildNodePredicate) {
@@ -111,20 +130,52 @@ public abstract class AbstractPowerNode<N extends AbstractPowerNode<N>> extends
 		return nodeService.getChild(getWrappedNode(), relativePath, locale).map(this::wrapNode);
 	}
 
+	/**
+	 * Gets child by localizing all relative path names with the first existing locale of the fallback chain.<br>
+	 * e.g. /node1/child_de_CH/grandchild_de
+	 */
+	public Optional<N> getChild(final String relativePath, final List<Locale> locales) {
+		return nodeService.getChild(getWrappedNode(), relativePath, locales).map(this::wrapNode);
+	}
+
 	public Stream<N> streamChildren() {
 		return nodeService.streamChildren(getWrappedNode()).map(this::wrapNode);
 	}
 	public Stream<N> streamChildren(final Predicate<N> predicate) {
-		return nodeService.streamChildren(getWrappedNode(), node -> predicate.test(wrapNode(node))).map(this::wrapNode);
+		return streamChildren().filter(predicate);
 	}
 	public Stream<N> streamChildrenRecursive() {
 		return nodeService.streamChildrenRecursive(getWrappedNode()).map(this::wrapNode);
 	}
 	/**
-	 * @param predicate has no impact on the traversed children (only filters)
+	 * @param predicate has no impact on the traversed children (only filters), use {@link NodeTraversal#descend(Predicate)} to prune subtrees
 	 */
 	public Stream<N> streamChildrenRecursive(final Predicate<N> predicate) {
-		return nodeService.streamChildrenRecursive(getWrappedNode(), node -> predicate.test(wrapNode(node))).map(this::wrapNode);
+		return streamChildrenRecursive().filter(predicate);
+	}
+	public Stream<N> streamChildrenRecursiveBreadthFirst() {
+		return nodeService.streamChildrenRecursiveBreadthFirst(getWrappedNode()).map(this::wrapNode);
+	}
+	/**
+	 * @param predicate has no impact on the traversed children (only filters)
+	 */
+	public Stream<N> streamChildrenRecursiveBreadthFirst(final Predicate<N> predicate) {
+		return streamChildrenRecursiveBreadthFirst().filter(predicate);
+	}
+	public Stream<N> streamChildrenRecursive(final NodeTraversal<N> traversal) {
+		return nodeService.streamWrappedChildrenRecursive(getWrappedNode(), traversal, this::wrapNode);
+	}
+	/**
+	 * @param predicate has no impact on the traversed children (only filters), use {@link NodeTraversal#descend(Predicate)} to prune subtrees
+	 */
+	public Stream<N> streamChildrenRecursive(final NodeTraversal<N> traversal, final Predicate<N> predicate) {
+		return streamChildrenRecursive(traversal).filter(predicate);
+	}
+	/**
+	 * @see NodeService#collectChildrenRecursiveParallel(Node, NodeTraversal, int, ExecutorService, Collector)
+	 */
+	public <R> R collectChildrenRecursiveParallel(final NodeTraversal<N> traversal, final int splitDepth, final ExecutorService executor, final Collector<N, ?, R> collector) {
+		return nodeService.collectWrappedChildrenRecursiveParallel(getWrappedNode(), traversal, this::wrapNode, splitDepth, executor, collector);
 	}
 
 
@@ -133,20 +184,20 @@ public abstract class AbstractPowerNode<N extends AbstractPowerNode<N>> extends
 	}
 
 	public Optional<N> getAncestor(final Predicate<N> predicate) {
-		return nodeService.getAncestor(getWrappedNode(), node -> predicate.test(wrapNode(node))).map(this::wrapNode);
+		return streamAncestors(predicate).findFirst();
 	}
 	public Optional<N> getAncestorOrSelf(final Predicate<N> predicate) {
-		return nodeService.getAncestorOrSelf(getWrappedNode(), node -> predicate.test(wrapNode(node))).map(this::wrapNode);
+		return streamAncestorsAndSelf(predicate).findFirst();
 	}
 
 	public Stream<N> streamAncestors(final Predicate<N> predicate) {
-		return nodeService.streamAncestors(getWrappedNode(), node -> predicate.test(wrapNode(node))).map(this::wrapNode);
+		return nodeService.streamAncestors(getWrappedNode(), node -> true).map(this::wrapNode).filter(predicate);
 	}
 	/**
 	 * @param predicate has no impact on the traversed parents (only filters)
 	 */
 	public Stream<N> streamAncestorsAndSelf(final Predicate<N> predicate) {
-		return nodeService.streamAncestorsAndSelf(getWrappedNode(), node -> predicate.test(wrapNode(node))).map(this::wrapNode);
+		return nodeService.streamAncestorsAndSelf(getWrappedNode(), node -> true).map(this::wrapNode).filter(predicate);
 	}
 
 	//Override due to link uuid conversion (see ValueConverter)
@@ -165,6 +216,9 @@ public abstract class AbstractPowerNode<N extends AbstractPowerNode<N>> extends
 	public boolean hasProperty(final String propertyName, final Locale locale) {
 		return nodeService.hasProperty(getWrappedNode(), propertyName, locale);
 	}
+	public boolean hasProperty(final String propertyName, final List<Locale> locales) {
+		return nodeService.hasProperty(getWrappedNode(), propertyName, locales);
+	}
 
 	public <T> Property setProperty(final String propertyName, @Nullable final T value, final PropertyService.ValueFactory<T> factory) {
 		return nodeService.setProperty(getWrappedNode(), propertyName, value, factory);
@@ -172,6 +226,24 @@ public abstract class AbstractPowerNode<N extends AbstractPowerNode<N>> extends
 	public <T> Property setProperty(final String propertyName, final Locale locale, @Nullable final T value, final PropertyService.ValueFactory<T> factory) {
 		return nodeService.setProperty(getWrappedNode(), propertyName, locale, value, factory);
 	}
+	public Property setBinary(final String propertyName, final InputStream stream) {
+		return nodeService.setBinary(getWrappedNode(), propertyName, stream);
+	}
+	public Property setBinary(final String propertyName, final InputStream stream, @Nullable final BinaryDigest digest) {
+		return nodeService.setBinary(getWrappedNode(), propertyName, stream, digest);
+	}
+	public Property setBinary(final String propertyName, final ReadableByteChannel channel) {
+		return nodeService.setBinary(getWrappedNode(), propertyName, channel);
+	}
+	public Property setBinary(final String propertyName, final ReadableByteChannel channel, @Nullable final BinaryDigest digest) {
+		return nodeService.setBinary(getWrappedNode(), propertyName, channel, digest);
+	}
+	public Property setBinary(final String propertyName, final Path path) {
+		return nodeService.setBinary(getWrappedNode(), propertyName, path);
+	}
+	public Property setBinary(final String propertyName, final Path path, @Nullable final BinaryDigest digest) {
+		return nodeService.setBinary(getWrappedNode(), propertyName, path, digest);
+	}
 	public <T> Property setMultiProperty(final String propertyName, final Iterable<T> values, final PropertyService.ValueFactory<T> factory) {
 		return nodeService.setMultiProperty(getWrappedNode(), propertyName, values, factory);
 	}
@@ -185,12 +257,85 @@ public abstract class AbstractPowerNode<N extends AbstractPowerNode<N>> extends
 	public <T> Optional<T> getProperty(final String propertyName, final Locale locale, final PropertyService.PropertyProvider<T> provider) {
 		return nodeService.getProperty(getWrappedNode(), propertyName, locale, provider);
 	}
+	public <T> Optional<T> getProperty(final String propertyName, final List<Locale> locales, final PropertyService.PropertyProvider<T> provider) {
+		return nodeService.getProperty(getWrappedNode(), propertyName, locales, provider);
+	}
+	public long getLongOrDefault(final String propertyName, final long defaultValue) {
+		return nodeService.getLongOrDefault(getWrappedNode(), propertyName, defaultValue);
+	}
+	public long getLongOrDefault(final String propertyName, final Locale locale, final long defaultValue) {
+		return nodeService.getLongOrDefault(getWrappedNode(), propertyName, locale, defaultValue);
+	}
+	public int getIntOrDefault(final String propertyName, final int defaultValue) {
+		return nodeService.getIntOrDefault(getWrappedNode(), propertyName, defaultValue);
+	}
+	public int getIntOrDefault(final String propertyName, final Locale locale, final int defaultValue) {
+		return nodeService.getIntOrDefault(getWrappedNode(), propertyName, locale, defaultValue);
+	}
+	public double getDoubleOrDefault(final String propertyName, final double defaultValue) {
+		return nodeService.getDoubleOrDefault(getWrappedNode(), propertyName, defaultValue);
+	}
+	public double getDoubleOrDefault(final String propertyName, final Locale locale, final double defaultValue) {
+		return nodeService.getDoubleOrDefault(getWrappedNode(), propertyName, locale, defaultValue);
+	}
+	public boolean getBooleanOrDefault(final String propertyName, final boolean defaultValue) {
+		return nodeService.getBooleanOrDefault(getWrappedNode(), propertyName, defaultValue);
+	}
+	public boolean getBooleanOrDefault(final String propertyName, final Locale locale, final boolean defaultValue) {
+		return nodeService.getBooleanOrDefault(getWrappedNode(), propertyName, locale, defaultValue);
+	}
+	public OptionalLong getOptionalLong(final String propertyName) {
+		return nodeService.getOptionalLong(getWrappedNode(), propertyName);
+	}
+	public OptionalLong getOptionalLong(final String propertyName, final Locale locale) {
+		return nodeService.getOptionalLong(getWrappedNode(), propertyName, locale);
+	}
+	public OptionalDouble getOptionalDouble(final String propertyName) {
+		return nodeService.getOptionalDouble(getWrappedNode(), propertyName);
+	}
+	public OptionalDouble getOptionalDouble(final String propertyName, final Locale locale) {
+		return nodeService.getOptionalDouble(getWrappedNode(), propertyName, locale);
+	}
+	public PropertyBag getPropertyBag(final String... propertyNames) {
+		return nodeService.getPropertyBag(getWrappedNode(), propertyNames);
+	}
+	public PropertyBag getPropertyBag(final Locale locale, final String... propertyNames) {
+		return nodeService.getPropertyBag(getWrappedNode(), locale, propertyNames);
+	}
 	public <T> Stream<T> streamMultiProperty(final String propertyName, final PropertyService.PropertyProvider<T> provider) {
 		return nodeService.streamMultiProperty(getWrappedNode(), propertyName, provider);
 	}
 	public <T> Stream<T> streamMultiProperty(final String propertyName, final Locale locale, final PropertyService.PropertyProvider<T> provider) {
 		return nodeService.streamMultiProperty(getWrappedNode(), propertyName, locale, provider);
 	}
+	public <T> Stream<T> streamMultiProperty(final String propertyName, final List<Locale> locales, final PropertyService.PropertyProvider<T> provider) {
+		return nodeService.streamMultiProperty(getWrappedNode(), propertyName, locales, provider);
+	}
+
+	public <T> Optional<T> readBinary(final String propertyName, final PropertyService.BinaryReader<T> reader) {
+		return nodeService.readBinary(getWrappedNode(), propertyName, reader);
+	}
+	public Optional<InputStream> getBinaryStream(final String propertyName) {
+		return nodeService.getBinaryStream(getWrappedNode(), propertyName);
+	}
+	public Optional<ReadableByteChannel> getBinaryChannel(final String propertyName) {
+		return nodeService.getBinaryChannel(getWrappedNode(), propertyName);
+	}
+	public OptionalLong getBinarySize(final String propertyName) {
+		return nodeService.getBinarySize(getWrappedNode(), propertyName);
+	}
+	public int readBinary(final String propertyName, final byte[] buffer, final long position) {
+		return nodeService.readBinary(getWrappedNode(), propertyName, buffer, position);
+	}
+	public OptionalLong transferBinary(final String propertyName, final OutputStream outputStream) {
+		return nodeService.transferBinary(getWrappedNode(), propertyName, outputStream);
+	}
+	public OptionalLong transferBinary(final String propertyName, final WritableByteChannel channel) {
+		return nodeService.transferBinary(getWrappedNode(), propertyName, channel);
+	}
+	public OptionalLong transferBinary(final String propertyName, final long position, final long length, final OutputStream outputStream) {
+		return nodeService.transferBinary(getWrappedNode(), propertyName, position, length, outputStream);
+	}
 
 	public Optional<Property> removeProperty(final String propertyName) {
 		return nodeService.removeProperty(getWrappedNode(), propertyName);
@@ -208,34 +353,41 @@ public abstract class AbstractPowerNode<N extends AbstractPowerNode<N>> extends
 	}
 
 	private Optional<N> toSession(final Function<String, Optional<Session>> sessionProvider) {
+		final NodeKey nodeKey = getNodeKey();
 		return sessionProvider
-				.apply(getOrThrow(node -> node.getSession().getWorkspace().getName()))
+				.apply(nodeKey.getWorkspace())
 				.flatMap(session ->
-						nodeService.getByIdentifier(session, getOrThrow(Node::getIdentifier))
+						nodeService.getByIdentifier(session, nodeKey.getIdentifier())
 				)
 				.map(this::wrapNode);
 	}
 
+	/**
+	 * Captured on first access, so that equals and hashCode don't hit the repository (identifier and workspace of a node never change).
+	 */
+	public NodeKey getNodeKey() {
+		@Nullable
+		NodeKey nodeKey = this.nodeKey;
+		if (nodeKey == null) {
+			nodeKey = getOrThrow(node -> new NodeKey(node.getSession().getWorkspace().getName(), node.getIdentifier()));
+			this.nodeKey = nodeKey;
+		}
+		return nodeKey;
+	}
+
 	@Override
 	public boolean equals(final Object other) {
+		if (this == other) {
+			return true;
+		}
 		if (other instanceof AbstractPowerNode<?> otherPowerNode) {
-			return getOrThrow(wrappedNode ->
-					Objects.equals(wrappedNode.getIdentifier(), otherPowerNode.getIdentifier()) &&
-					Objects.equals(getWorkspaceName(), otherPowerNode.getWorkspaceName())
-			);
+			return getNodeKey().equals(otherPowerNode.getNodeKey());
 		}
 		return false;
 	}
 
 	@Override
 	public int hashCode() {
-		return getOrThrow(wrappedNode -> Objects.hash(
-				wrappedNode.getIdentifier(),
-				getWorkspaceName()
-		));
-	}
-
-	private String getWorkspaceName() throws RepositoryException{
-		return getWrappedNode().getSession().getWorkspace().getName();
+		return getNodeKey().hashCode();
 	}
 }
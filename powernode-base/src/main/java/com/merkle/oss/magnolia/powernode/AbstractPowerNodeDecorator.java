@@ -4,11 +4,37 @@ import info.magnolia.jcr.decoration.AbstractContentDecorator;
 import info.magnolia.jcr.util.NodeUtil;
 import info.magnolia.jcr.wrapper.I18nNodeWrapper;
 
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
 import jakarta.annotation.Nullable;
 import javax.jcr.Node;
 import javax.jcr.NodeIterator;
+import javax.jcr.RepositoryException;
+import javax.jcr.Session;
 
 public abstract class AbstractPowerNodeDecorator<N extends AbstractPowerNode<N>> extends AbstractContentDecorator {
+	/**
+	 * session -> jcr node -> wrapper (weakly referenced, so neither the wrapper nor the node and its session are retained by the cache)
+	 */
+	@Nullable
+	private final Map<Session, Map<Node, Reference<N>>> wrappers;
+
+	protected AbstractPowerNodeDecorator() {
+		this(false);
+	}
+
+	/**
+	 * @param cacheWrappers whether the wrappers are cached per session (weakly keyed on the jcr node),
+	 *                      so that repeated navigation over the same nodes returns the same wrapper instead of allocating a new one, as long as the wrapper is in use.
+	 */
+	protected AbstractPowerNodeDecorator(final boolean cacheWrappers) {
+		this.wrappers = cacheWrappers ? Collections.synchronizedMap(new WeakHashMap<>()) : null;
+	}
 
 	protected abstract N wrapNodeInternal(final Node node);
 	protected abstract Node unwrapNodeInternal(final Node node);
@@ -22,7 +48,42 @@ public abstract class AbstractPowerNodeDecorator<N extends AbstractPowerNode<N>>
 		if(node instanceof AbstractPowerNode) {
 			return (N) node;
 		}
-		return wrapNodeInternal(unwrap(unwrapI18n(node)));
+		final Node unwrapped = unwrap(unwrapI18n(node));
+		if (wrappers == null) {
+			return wrapNodeInternal(unwrapped);
+		}
+		return getSession(unwrapped).map(session -> getOrWrap(session, unwrapped)).orElseGet(() -> wrapNodeInternal(unwrapped));
+	}
+
+	private N getOrWrap(final Session session, final Node node) {
+		final Map<Node, Reference<N>> sessionWrappers = wrappers.computeIfAbsent(session, key -> new WeakHashMap<>());
+		synchronized (sessionWrappers) {
+			@Nullable
+			final N cached = Optional.ofNullable(sessionWrappers.get(node)).map(Reference::get).orElse(null);
+			if (cached != null) {
+				return cached;
+			}
+			final N wrapper = wrapNodeInternal(node);
+			sessionWrappers.put(node, new WeakReference<>(wrapper));
+			return wrapper;
+		}
+	}
+
+	/**
+	 * Drops the cached wrappers of the session, e.g. once the session is logged out or its changes are discarded.
+	 */
+	public void invalidate(final Session session) {
+		if (wrappers != null) {
+			wrappers.remove(session);
+		}
+	}
+
+	private Optional<Session> getSession(final Node node) {
+		try {
+			return Optional.ofNullable(node.getSession());
+		} catch (RepositoryException e) {
+			return Optional.empty();
+		}
 	}
 
 	private Node unwrap(final Node node) {
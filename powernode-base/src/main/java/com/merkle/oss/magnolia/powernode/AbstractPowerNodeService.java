@@ -3,6 +3,9 @@ package com.merkle.oss.magnolia.powernode;
 import javax.jcr.Node;
 import javax.jcr.Session;
 import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+
+import com.merkle.oss.magnolia.powernode.observation.PowerNodeObservation;
 
 public abstract class AbstractPowerNodeService<N extends AbstractPowerNode<N>> {
 	private final NodeService nodeService;
@@ -51,4 +54,11 @@ public abstract class AbstractPowerNodeService<N extends AbstractPowerNode<N>> {
 	public N getRootNode(final Session session) {
 		return powerNodeDecorator.wrapNode(nodeService.getRootNode(session));
 	}
+
+	/**
+	 * @see PowerNodeObservation
+	 */
+	public PowerNodeObservation<N> createObservation(final ScheduledExecutorService executor) {
+		return new PowerNodeObservation<>(nodeService, powerNodeDecorator, executor);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.merkle.oss.magnolia.powernode;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Digest computed while a binary is streamed into the repository and stored (hex encoded) as property next to it.
+ */
+public class BinaryDigest {
+	private final String algorithm;
+	private final String propertyName;
+
+	public BinaryDigest(final String algorithm, final String propertyName) {
+		this.algorithm = algorithm;
+		this.propertyName = propertyName;
+		createMessageDigest();
+	}
+
+	public static BinaryDigest sha256(final String propertyName) {
+		return new BinaryDigest("SHA-256", propertyName);
+	}
+
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	MessageDigest createMessageDigest() {
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalArgumentException("Unsupported digest algorithm " + algorithm, e);
+		}
+	}
+}
@@ -0,0 +1,263 @@
+package com.merkle.oss.magnolia.powernode;
+
+import info.magnolia.jcr.RuntimeRepositoryException;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.jcr.RepositoryException;
+import javax.jcr.Session;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import jakarta.inject.Inject;
+
+/**
+ * Applies writes to the session immediately and saves them in batches (by node count or estimated byte size).<br>
+ * After each save the session is refreshed, so the transient change set never exceeds one batch. A batch whose save fails is discarded,
+ * replayed and saved again, hence writes should be repeatable (e.g. {@link NodeService#getOrAddChild(javax.jcr.Node, String, String)} instead of adding nodes).
+ * Not thread safe, like the session itself.
+ */
+public class BulkWriter implements AutoCloseable {
+	private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+	private final NodeService nodeService;
+	private final Session session;
+	private final int maxBatchNodes;
+	private final long maxBatchBytes;
+	private final int maxAttempts;
+	private final Duration retryDelay;
+	private final Consumer<Progress> progressListener;
+	private final List<Write> batch = new ArrayList<>();
+	private int batchNodes;
+	private long batchBytes;
+	private long batches;
+	private long nodes;
+	private long bytes;
+	private long retries;
+
+	private BulkWriter(final NodeService nodeService, final Session session, final Builder builder) {
+		this.nodeService = nodeService;
+		this.session = session;
+		this.maxBatchNodes = builder.maxBatchNodes;
+		this.maxBatchBytes = builder.maxBatchBytes;
+		this.maxAttempts = builder.maxAttempts;
+		this.retryDelay = builder.retryDelay;
+		this.progressListener = builder.progressListener;
+	}
+
+	/**
+	 * Counts as one node without bytes.
+	 */
+	public void write(final Write write) {
+		write(1, 0, write);
+	}
+
+	/**
+	 * @param nodes number of nodes the write touches
+	 * @param bytes estimated size of the written values
+	 */
+	public void write(final int nodes, final long bytes, final Write write) {
+		nodeService.run(() -> write.apply(session));
+		batch.add(write);
+		batchNodes += nodes;
+		batchBytes += bytes;
+		if (batchNodes >= maxBatchNodes || batchBytes >= maxBatchBytes) {
+			flush();
+		}
+	}
+
+	/**
+	 * Saves the current batch.
+	 */
+	public void flush() {
+		if (batch.isEmpty()) {
+			return;
+		}
+		for (int attempt = 1; ; attempt++) {
+			try {
+				if (attempt > 1) {
+					replay();
+				}
+				session.save();
+				session.refresh(false);
+				break;
+			} catch (RepositoryException | RuntimeRepositoryException e) {
+				nodeService.run(() -> nodeService.discardChanges(session));
+				if (attempt >= maxAttempts) {
+					clear();
+					throw e instanceof RuntimeRepositoryException ? (RuntimeRepositoryException) e : new RuntimeRepositoryException("Failed to save batch " + (batches + 1) + " after " + attempt + " attempts", e);
+				}
+				LOG.warn("Failed to save batch {} (attempt {} of {}), retrying...", batches + 1, attempt, maxAttempts, e);
+				retries++;
+				sleep();
+			}
+		}
+		batches++;
+		nodes += batchNodes;
+		bytes += batchBytes;
+		clear();
+		progressListener.accept(new Progress(batches, nodes, bytes, retries));
+	}
+
+	/**
+	 * Discards the current batch (the pending changes of the session).
+	 */
+	public void discard() {
+		nodeService.run(() -> nodeService.discardChanges(session));
+		clear();
+	}
+
+	@Override
+	public void close() {
+		flush();
+	}
+
+	private void replay() throws RepositoryException {
+		for (Write write : batch) {
+			write.apply(session);
+		}
+	}
+
+	private void clear() {
+		batch.clear();
+		batchNodes = 0;
+		batchBytes = 0;
+	}
+
+	private void sleep() {
+		try {
+			Thread.sleep(retryDelay.toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			clear();
+			throw new IllegalStateException("Interrupted while retrying batch " + (batches + 1), e);
+		}
+	}
+
+	public interface Write {
+		void apply(Session session) throws RepositoryException;
+	}
+
+	public static class Progress {
+		private final long batches;
+		private final long nodes;
+		private final long bytes;
+		private final long retries;
+
+		private Progress(final long batches, final long nodes, final long bytes, final long retries) {
+			this.batches = batches;
+			this.nodes = nodes;
+			this.bytes = bytes;
+			this.retries = retries;
+		}
+
+		/**
+		 * @return number of saved batches
+		 */
+		public long getBatches() {
+			return batches;
+		}
+
+		/**
+		 * @return number of saved nodes
+		 */
+		public long getNodes() {
+			return nodes;
+		}
+
+		/**
+		 * @return estimated number of saved bytes
+		 */
+		public long getBytes() {
+			return bytes;
+		}
+
+		/**
+		 * @return number of failed save attempts that were retried
+		 */
+		public long getRetries() {
+			return retries;
+		}
+
+		@Override
+		public String toString() {
+			return "Progress{batches=" + batches + ", nodes=" + nodes + ", bytes=" + bytes + ", retries=" + retries + '}';
+		}
+	}
+
+	public static class Builder {
+		private final NodeService nodeService;
+		private final Session session;
+		private int maxBatchNodes = 1000;
+		private long maxBatchBytes = 16L * 1024 * 1024;
+		private int maxAttempts = 3;
+		private Duration retryDelay = Duration.ofSeconds(1);
+		private Consumer<Progress> progressListener = progress -> LOG.debug("{}", progress);
+
+		private Builder(final NodeService nodeService, final Session session) {
+			this.nodeService = nodeService;
+			this.session = session;
+		}
+
+		/**
+		 * @param maxBatchNodes number of nodes after which the batch is saved (default: 1000)
+		 */
+		public Builder withMaxBatchNodes(final int maxBatchNodes) {
+			this.maxBatchNodes = maxBatchNodes;
+			return this;
+		}
+
+		/**
+		 * @param maxBatchBytes estimated size after which the batch is saved (default: 16MB)
+		 */
+		public Builder withMaxBatchBytes(final long maxBatchBytes) {
+			this.maxBatchBytes = maxBatchBytes;
+			return this;
+		}
+
+		/**
+		 * @param maxAttempts number of save attempts per batch (default: 3)
+		 */
+		public Builder withMaxAttempts(final int maxAttempts) {
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		/**
+		 * @param retryDelay delay before a failed batch is replayed (default: 1s)
+		 */
+		public Builder withRetryDelay(final Duration retryDelay) {
+			this.retryDelay = retryDelay;
+			return this;
+		}
+
+		/**
+		 * @param progressListener called after each saved batch (default: debug log)
+		 */
+		public Builder withProgressListener(final Consumer<Progress> progressListener) {
+			this.progressListener = progressListener;
+			return this;
+		}
+
+		public BulkWriter build() {
+			return new BulkWriter(nodeService, session, this);
+		}
+	}
+
+	public static class Factory {
+		private final NodeService nodeService;
+
+		@Inject
+		public Factory(final NodeService nodeService) {
+			this.nodeService = nodeService;
+		}
+
+		public Builder builder(final Session session) {
+			return new Builder(nodeService, session);
+		}
+	}
+}
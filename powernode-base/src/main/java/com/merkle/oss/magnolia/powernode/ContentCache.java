@@ -0,0 +1,324 @@
+package com.merkle.oss.magnolia.powernode;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.Nullable;
+import javax.jcr.ItemNotFoundException;
+import javax.jcr.Node;
+import javax.jcr.Property;
+import javax.jcr.PropertyType;
+import javax.jcr.RepositoryException;
+import javax.jcr.Session;
+import javax.jcr.Value;
+import javax.jcr.ValueFormatException;
+import javax.jcr.observation.Event;
+import javax.jcr.observation.EventIterator;
+
+import org.apache.jackrabbit.value.ValueFactoryImpl;
+import org.apache.jackrabbit.value.ValueHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-through cache shared across requests and sessions for content that only changes by publication (e.g. on public instances).<br>
+ * Caches path to identifier resolutions and property values (copied into session independent values, binaries are never cached).
+ * Only reads of sessions without pending changes are cached, so unsaved changes never leak into the cache.<br>
+ * Must be invalidated on content changes, see {@link #invalidate(String, EventIterator)}. Cached paths are resolved by identifier without validating the path,
+ * so like property values, moved and removed nodes are only detected once invalidated.
+ */
+public class ContentCache {
+	private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+	public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+	private static final CachedProperty ABSENT = new CachedProperty(false, new Value[0]);
+	private final int maximumSize;
+	private final boolean enabled;
+	/**
+	 * workspace -> path -> identifier
+	 */
+	private final Map<String, Map<String, String>> identifiers = new ConcurrentHashMap<>();
+	/**
+	 * workspace -> identifier -> property name -> property
+	 */
+	private final Map<String, Map<String, Map<String, CachedProperty>>> properties = new ConcurrentHashMap<>();
+	/**
+	 * Incremented by every invalidation, loads that overlap an invalidation are not cached (they might be stale).
+	 */
+	private final AtomicLong generation = new AtomicLong();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * @param maximumSize maximum number of cached paths and nodes (each) per workspace, 0 disables the cache
+	 */
+	public ContentCache(final int maximumSize) {
+		this.maximumSize = maximumSize;
+		this.enabled = maximumSize > 0;
+	}
+
+	/**
+	 * @return false if nothing is ever cached, i.e. properties can be read straight from the node without going through the cache.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	protected boolean isCacheable(final String workspace) {
+		return enabled;
+	}
+
+	@Nullable
+	Node getByPath(final Session session, final String path) throws RepositoryException {
+		if (!enabled) {
+			return getByPathOrNull(session, path);
+		}
+		final String workspace = session.getWorkspace().getName();
+		if (!isCacheable(workspace) || session.hasPendingChanges()) {
+			return getByPathOrNull(session, path);
+		}
+		final Map<String, String> workspaceIdentifiers = identifiers.computeIfAbsent(workspace, key -> createLruMap());
+		@Nullable
+		final String identifier = workspaceIdentifiers.get(path);
+		if (identifier != null) {
+			@Nullable
+			final Node node = getByIdentifierOrNull(session, identifier);
+			if (node != null) {
+				hits.increment();
+				return node;
+			}
+			workspaceIdentifiers.remove(path, identifier);
+		}
+		misses.increment();
+		final long generation = this.generation.get();
+		@Nullable
+		final Node node = getByPathOrNull(session, path);
+		if (node != null) {
+			final String loadedIdentifier = node.getIdentifier();
+			// atomic with the invalidation, which increments the generation before removing the entries (under the same lock)
+			workspaceIdentifiers.compute(path, (key, current) -> generation == this.generation.get() ? loadedIdentifier : current);
+		}
+		return node;
+	}
+
+	/**
+	 * @see Property#getValue()
+	 */
+	@Nullable
+	Value getValueOrNull(final Node node, final String propertyName, final RepositoryExceptionDelegator.RepositoryProvider<Property> loader) throws RepositoryException {
+		@Nullable
+		final CachedProperty property = getCachedProperty(node, propertyName, loader);
+		if (property == null) {
+			@Nullable
+			final Property uncached = loader.get();
+			return uncached != null ? uncached.getValue() : null;
+		}
+		if (property == ABSENT) {
+			return null;
+		}
+		if (property.multiple) {
+			throw new ValueFormatException("Property " + propertyName + " of " + node.getPath() + " is multi-valued");
+		}
+		return property.values[0];
+	}
+
+	/**
+	 * @return values of the multi-valued property (empty if single-valued)
+	 */
+	@Nullable
+	Value[] getValuesOrNull(final Node node, final String propertyName, final RepositoryExceptionDelegator.RepositoryProvider<Property> loader) throws RepositoryException {
+		@Nullable
+		final CachedProperty property = getCachedProperty(node, propertyName, loader);
+		if (property == null) {
+			@Nullable
+			final Property uncached = loader.get();
+			return uncached != null ? getValues(uncached) : null;
+		}
+		if (property == ABSENT) {
+			return null;
+		}
+		return property.multiple ? property.values.clone() : new Value[0];
+	}
+
+	/**
+	 * @return the cached (or loaded and cached) property or null if the property must be read from the node (not cacheable)
+	 */
+	@Nullable
+	private CachedProperty getCachedProperty(final Node node, final String propertyName, final RepositoryExceptionDelegator.RepositoryProvider<Property> loader) throws RepositoryException {
+		if (!enabled) {
+			return null;
+		}
+		final Session session = node.getSession();
+		final String workspace = session.getWorkspace().getName();
+		if (!isCacheable(workspace) || session.hasPendingChanges()) {
+			return null;
+		}
+		final Map<String, Map<String, CachedProperty>> workspaceProperties = properties.computeIfAbsent(workspace, key -> createLruMap());
+		final String identifier = node.getIdentifier();
+		@Nullable
+		final CachedProperty cached = Optional.ofNullable(workspaceProperties.get(identifier)).map(nodeProperties -> nodeProperties.get(propertyName)).orElse(null);
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+		misses.increment();
+		final long generation = this.generation.get();
+		@Nullable
+		final Property property = loader.get();
+		if (property != null && !isCacheable(property)) {
+			return load(property);
+		}
+		final CachedProperty loaded = property != null ? copy(property) : ABSENT;
+		// atomic with the invalidation, which increments the generation before removing the entries (under the same lock)
+		workspaceProperties.compute(identifier, (key, nodeProperties) -> {
+			if (generation != this.generation.get()) {
+				return nodeProperties;
+			}
+			final Map<String, CachedProperty> updated = nodeProperties != null ? nodeProperties : new ConcurrentHashMap<>();
+			updated.put(propertyName, loaded);
+			return updated;
+		});
+		return loaded;
+	}
+
+	/**
+	 * Invalidates the nodes and paths affected by the observed events.
+	 */
+	public void invalidate(final String workspace, final EventIterator events) {
+		generation.incrementAndGet();
+		while (events.hasNext()) {
+			final Event event = events.nextEvent();
+			try {
+				invalidateNode(workspace, event.getIdentifier());
+				if (event.getType() == Event.NODE_ADDED || event.getType() == Event.NODE_REMOVED || event.getType() == Event.NODE_MOVED) {
+					invalidatePath(workspace, event.getPath());
+				}
+				if (event.getType() == Event.NODE_MOVED && event.getInfo().get("srcAbsPath") instanceof String srcAbsPath) {
+					invalidatePath(workspace, srcAbsPath);
+				}
+			} catch (RepositoryException e) {
+				LOG.warn("Failed to resolve event, invalidating workspace " + workspace, e);
+				invalidate(workspace);
+			}
+		}
+	}
+
+	public void invalidate(final String workspace) {
+		generation.incrementAndGet();
+		identifiers.remove(workspace);
+		properties.remove(workspace);
+	}
+
+	public void invalidate() {
+		generation.incrementAndGet();
+		identifiers.clear();
+		properties.clear();
+	}
+
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	public int getSize() {
+		return identifiers.values().stream().mapToInt(Map::size).sum() + properties.values().stream().mapToInt(Map::size).sum();
+	}
+
+	private void invalidateNode(final String workspace, @Nullable final String identifier) {
+		if (identifier != null) {
+			Optional.ofNullable(properties.get(workspace)).ifPresent(workspaceProperties -> workspaceProperties.remove(identifier));
+		}
+	}
+
+	private void invalidatePath(final String workspace, final String path) {
+		Optional.ofNullable(identifiers.get(workspace)).ifPresent(workspaceIdentifiers -> {
+			synchronized (workspaceIdentifiers) {
+				workspaceIdentifiers.keySet().removeIf(cachedPath -> cachedPath.equals(path) || cachedPath.startsWith(path + "/"));
+			}
+		});
+	}
+
+	private <V> Map<String, V> createLruMap() {
+		return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, V> eldest) {
+				if (size() > maximumSize) {
+					evictions.increment();
+					return true;
+				}
+				return false;
+			}
+		});
+	}
+
+	/**
+	 * Binaries are too large and names / paths depend on the namespace mappings of the session.
+	 */
+	private boolean isCacheable(final Property property) throws RepositoryException {
+		final int type = property.getType();
+		return type != PropertyType.BINARY && type != PropertyType.NAME && type != PropertyType.PATH;
+	}
+
+	private Value[] getValues(final Property property) throws RepositoryException {
+		return property.isMultiple() ? property.getValues() : new Value[0];
+	}
+
+	private CachedProperty load(final Property property) throws RepositoryException {
+		return property.isMultiple() ? new CachedProperty(true, property.getValues()) : new CachedProperty(false, new Value[]{ property.getValue() });
+	}
+
+	private CachedProperty copy(final Property property) throws RepositoryException {
+		final CachedProperty loaded = load(property);
+		final Value[] values = new Value[loaded.values.length];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = ValueHelper.copy(loaded.values[i], ValueFactoryImpl.getInstance());
+		}
+		return new CachedProperty(loaded.multiple, values);
+	}
+
+	@Nullable
+	private Node getByPathOrNull(final Session session, final String path) throws RepositoryException {
+		return session.nodeExists(path) ? session.getNode(path) : null;
+	}
+
+	@Nullable
+	private Node getByIdentifierOrNull(final Session session, final String identifier) throws RepositoryException {
+		try {
+			return session.getNodeByIdentifier(identifier);
+		} catch (ItemNotFoundException e) {
+			return null;
+		}
+	}
+
+	private static class CachedProperty {
+		private final boolean multiple;
+		private final Value[] values;
+
+		private CachedProperty(final boolean multiple, final Value[] values) {
+			this.multiple = multiple;
+			this.values = values;
+		}
+	}
+
+	/**
+	 * Caching disabled (default).
+	 */
+	public static class Disabled extends ContentCache {
+		public Disabled() {
+			super(0);
+		}
+	}
+}
@@ -2,8 +2,31 @@ package com.merkle.oss.magnolia.powernode;
 
 import javax.jcr.RepositoryException;
 import javax.jcr.Session;
+import javax.jcr.observation.EventListener;
+import javax.jcr.observation.ObservationManager;
 
 public interface JcrSessionProvider {
 	Session getSession(String workspace) throws RepositoryException;
 	Session getSystemSession(String workspace) throws RepositoryException;
+
+	/**
+	 * Releases the system sessions bound to the current thread, e.g. after a task on a pool thread.
+	 */
+	default void releaseSystemSessions() {
+	}
+
+	/**
+	 * Registers the listener until the returned registration is unregistered, independent of the sessions bound to the current thread (which may be released meanwhile).<br>
+	 * The default registers it with the system session, which is only suitable if the system sessions aren't released.
+	 * @param eventTypes bitwise or of the {@link javax.jcr.observation.Event} types
+	 */
+	default EventListenerRegistration addEventListener(final String workspace, final String path, final boolean subNodes, final int eventTypes, final EventListener listener) throws RepositoryException {
+		final ObservationManager observationManager = getSystemSession(workspace).getWorkspace().getObservationManager();
+		observationManager.addEventListener(listener, eventTypes, path, subNodes, null, null, false);
+		return () -> observationManager.removeEventListener(listener);
+	}
+
+	interface EventListenerRegistration {
+		void unregister() throws RepositoryException;
+	}
 }
@@ -0,0 +1,14 @@
+package com.merkle.oss.magnolia.powernode;
+
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.annotation.Nullable;
+import javax.jcr.Node;
+
+/**
+ * Provides the locales which are looked up (in order) by the fallback chain variants of {@link NodeService}, e.g. de_CH, de, en.
+ */
+public interface LocaleFallbackChainProvider {
+	List<Locale> getLocales(@Nullable Node node, Locale locale);
+}
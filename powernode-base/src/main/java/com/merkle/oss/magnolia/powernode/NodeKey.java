@@ -0,0 +1,49 @@
+package com.merkle.oss.magnolia.powernode;
+
+import java.util.Objects;
+
+/**
+ * Identity of a node within the repository (workspace and identifier) with a precomputed hash code.
+ */
+public final class NodeKey {
+	private final String workspace;
+	private final String identifier;
+	private final int hashCode;
+
+	public NodeKey(final String workspace, final String identifier) {
+		this.workspace = workspace;
+		this.identifier = identifier;
+		this.hashCode = Objects.hash(identifier, workspace);
+	}
+
+	public String getWorkspace() {
+		return workspace;
+	}
+
+	public String getIdentifier() {
+		return identifier;
+	}
+
+	@Override
+	public boolean equals(final Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (other instanceof NodeKey otherNodeKey) {
+			return hashCode == otherNodeKey.hashCode &&
+					Objects.equals(identifier, otherNodeKey.identifier) &&
+					Objects.equals(workspace, otherNodeKey.workspace);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return workspace + ":" + identifier;
+	}
+}
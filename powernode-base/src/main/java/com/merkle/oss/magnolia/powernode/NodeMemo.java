@@ -0,0 +1,78 @@
+package com.merkle.oss.magnolia.powernode;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import jakarta.annotation.Nullable;
+import javax.jcr.Node;
+import javax.jcr.Property;
+import javax.jcr.RepositoryException;
+
+/**
+ * Memoized node lookups and property reads of a single session for the duration of a scope (e.g. request), see {@link NodeMemoProvider}.<br>
+ * Writes through the {@link NodeService} invalidate the affected entries, changes applied directly on the jcr nodes are not detected.<br>
+ * Not thread safe (jcr sessions aren't either).
+ */
+public class NodeMemo {
+	private final Map<String, Optional<Node>> nodesByIdentifier = new HashMap<>();
+	private final Map<String, Optional<Node>> nodesByPath = new HashMap<>();
+	/**
+	 * node key -> node class -> property name -> property<br>
+	 * Keyed by the identity of the node (not the instance), so a write through any instance of the node invalidates its properties.
+	 * The node class separates the (possibly wrapped) properties of differently wrapped instances.
+	 */
+	private final Map<NodeKey, Map<Class<?>, Map<String, Optional<Property>>>> properties = new HashMap<>();
+	@Nullable
+	private ValueConverter valueConverter;
+
+	Optional<Node> getByIdentifier(final String identifier, final Supplier<Optional<Node>> loader) {
+		return nodesByIdentifier.computeIfAbsent(identifier, key -> loader.get());
+	}
+
+	Optional<Node> getByPath(final String path, final Supplier<Optional<Node>> loader) {
+		return nodesByPath.computeIfAbsent(path, key -> loader.get());
+	}
+
+	@Nullable
+	Property getPropertyOrNull(final Node node, final String propertyName, final RepositoryExceptionDelegator.RepositoryProvider<Property> loader) throws RepositoryException {
+		final Map<String, Optional<Property>> nodeProperties = properties
+				.computeIfAbsent(getKey(node), key -> new HashMap<>(2))
+				.computeIfAbsent(node.getClass(), key -> new HashMap<>());
+		@Nullable
+		Optional<Property> property = nodeProperties.get(propertyName);
+		if (property == null) {
+			property = Optional.ofNullable(loader.get());
+			nodeProperties.put(propertyName, property);
+		}
+		return property.orElse(null);
+	}
+
+	ValueConverter getValueConverter(final Supplier<ValueConverter> factory) {
+		if (valueConverter == null) {
+			valueConverter = factory.get();
+		}
+		return valueConverter;
+	}
+
+	/**
+	 * Must be called if properties of the node change.
+	 */
+	void invalidate(final Node node) throws RepositoryException {
+		properties.remove(getKey(node));
+	}
+
+	private NodeKey getKey(final Node node) throws RepositoryException {
+		return new NodeKey(node.getSession().getWorkspace().getName(), node.getIdentifier());
+	}
+
+	/**
+	 * Must be called if nodes are added, moved or removed.
+	 */
+	public void invalidate() {
+		nodesByIdentifier.clear();
+		nodesByPath.clear();
+		properties.clear();
+	}
+}
@@ -0,0 +1,27 @@
+package com.merkle.oss.magnolia.powernode;
+
+import java.util.Optional;
+
+import javax.jcr.Session;
+
+/**
+ * Binds {@link NodeMemo}s to a scope, e.g. the request.
+ */
+public interface NodeMemoProvider {
+	NodeMemoProvider NONE = new Disabled();
+
+	/**
+	 * @return the memo of the session within the current scope or empty if there is no active scope.
+	 */
+	Optional<NodeMemo> get(Session session);
+
+	/**
+	 * Memoization disabled (default).
+	 */
+	class Disabled implements NodeMemoProvider {
+		@Override
+		public Optional<NodeMemo> get(final Session session) {
+			return Optional.empty();
+		}
+	}
+}
@@ -9,7 +9,6 @@ import info.magnolia.jcr.util.NodeUtil;
 
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
-import jakarta.inject.Provider;
 import javax.jcr.Node;
 import javax.jcr.Property;
 import javax.jcr.RepositoryException;
@@ -104,15 +103,12 @@ public class NodeOperationFactory {
 		return apply((nodeService, context) -> getOrAddNode(context, relativePath, nodeType));
 	}
 	private Node getOrAddNode(final Node context, final String relativePath, @Nullable final String nodeType) {
-		final Provider<String> nodeTypeProvider = () -> Optional.ofNullable(nodeType).orElseGet(() ->
-				nodeService.getOrThrow(() -> context.getPrimaryNodeType().getName())
-		);
-		return nodeService.getOrAddChild(context, nodeTypeProvider.get(), relativePath);
+		return nodeService.getOrAddChild(context, () -> nodeType != null ? nodeType : context.getPrimaryNodeType().getName(), relativePath);
 	}
 
 	public NodeOperation removeNode(final String relativePath) {
 		return accept((nodeService, context) ->
-				nodeService.getChild(context, relativePath).ifPresent(child -> nodeService.run(child::remove))
+				nodeService.getChild(context, relativePath).ifPresent(nodeService::remove)
 		);
 	}
 
@@ -0,0 +1,188 @@
+package com.merkle.oss.magnolia.powernode;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import javax.jcr.Node;
+import javax.jcr.RepositoryException;
+import javax.jcr.Session;
+
+/**
+ * Resolves relative paths segment by segment and adds missing nodes without lookups (once a segment is missing, all following ones are).<br>
+ * The parent nodes of resolved paths (prefixes) are cached per session in a bounded LRU by absolute path, so resolving many paths below the same
+ * folder structure resolves the prefix once. Cached nodes are validated by their current path, which detects moved, removed and discarded nodes,
+ * and by their class, so differently wrapped nodes of the same session are not mixed up.<br>
+ * Sessions and nodes are weakly referenced, so the cache retains neither (nodes reference their session).
+ */
+public class NodePathResolver {
+	public static final int DEFAULT_MAX_PREFIXES_PER_SESSION = 1000;
+	private final int maxPrefixesPerSession;
+	/**
+	 * session -> absolute path -> node (the prefixes of a session are guarded by themselves)
+	 */
+	private final Map<SessionKey, Map<String, Reference<Node>>> prefixes = new ConcurrentHashMap<>();
+	private final ReferenceQueue<Session> collectedSessions = new ReferenceQueue<>();
+
+	@Inject
+	public NodePathResolver() {
+		this(DEFAULT_MAX_PREFIXES_PER_SESSION);
+	}
+
+	public NodePathResolver(final int maxPrefixesPerSession) {
+		this.maxPrefixesPerSession = maxPrefixesPerSession;
+	}
+
+	/**
+	 * @param naming maps each segment to the child node name (e.g. localized)
+	 * @param factory adds a missing child node
+	 */
+	public Node getOrAdd(final Node node, final String relativePath, final Naming naming, final ChildFactory factory) throws RepositoryException {
+		final int lastSeparator = relativePath.lastIndexOf('/');
+		if (lastSeparator < 0) {
+			return getOrAdd(node, naming.getName(node, relativePath), factory);
+		}
+		final Session session = node.getSession();
+		final String nodePath = node.getPath();
+		@Nullable
+		Node parent = naming == Naming.IDENTITY ? getCached(session, join(nodePath, relativePath.substring(0, lastSeparator)), node.getClass()) : null;
+		if (parent == null) {
+			parent = getOrAddPrefix(session, node, nodePath, relativePath, lastSeparator, naming, factory);
+		}
+		return getOrAdd(parent, naming.getName(parent, relativePath.substring(lastSeparator + 1)), factory);
+	}
+
+	/**
+	 * Must be called if nodes of the session are discarded.
+	 */
+	public void invalidate(final Session session) {
+		prefixes.remove(new SessionKey(session, null));
+	}
+
+	private Node getOrAddPrefix(
+			final Session session,
+			final Node node,
+			final String nodePath,
+			final String relativePath,
+			final int end,
+			final Naming naming,
+			final ChildFactory factory
+	) throws RepositoryException {
+		Node current = node;
+		String currentPath = nodePath;
+		boolean missing = false;
+		int start = 0;
+		while (start < end) {
+			final int separator = relativePath.indexOf('/', start);
+			final String name = naming.getName(current, relativePath.substring(start, separator));
+			final String path = join(currentPath, name);
+			@Nullable
+			final Node cached = missing ? null : getCached(session, path, node.getClass());
+			if (cached != null) {
+				current = cached;
+			} else if (!missing && current.hasNode(name)) {
+				current = current.getNode(name);
+				putCached(session, path, current);
+			} else {
+				missing = true;
+				current = factory.addNode(current, name);
+				putCached(session, path, current);
+			}
+			currentPath = path;
+			start = separator + 1;
+		}
+		return current;
+	}
+
+	private Node getOrAdd(final Node parent, final String name, final ChildFactory factory) throws RepositoryException {
+		return parent.hasNode(name) ? parent.getNode(name) : factory.addNode(parent, name);
+	}
+
+	@Nullable
+	private Node getCached(final Session session, final String path, final Class<?> nodeClass) {
+		@Nullable
+		final Map<String, Reference<Node>> sessionPrefixes = prefixes.get(new SessionKey(session, null));
+		if (sessionPrefixes == null) {
+			return null;
+		}
+		@Nullable
+		final Reference<Node> reference;
+		synchronized (sessionPrefixes) {
+			reference = sessionPrefixes.get(path);
+		}
+		@Nullable
+		final Node node = reference != null ? reference.get() : null;
+		try {
+			if (node != null && node.getClass() == nodeClass && path.equals(node.getPath())) {
+				return node;
+			}
+		} catch (RepositoryException e) {
+			// removed or discarded
+		}
+		return null;
+	}
+
+	private void putCached(final Session session, final String path, final Node node) {
+		for (Reference<? extends Session> collected = collectedSessions.poll(); collected != null; collected = collectedSessions.poll()) {
+			prefixes.remove(collected);
+		}
+		final Map<String, Reference<Node>> sessionPrefixes = prefixes.computeIfAbsent(new SessionKey(session, collectedSessions), key -> new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, Reference<Node>> eldest) {
+				return size() > maxPrefixesPerSession;
+			}
+		});
+		synchronized (sessionPrefixes) {
+			sessionPrefixes.put(path, new WeakReference<>(node));
+		}
+	}
+
+	private String join(final String path, final String relativePath) {
+		return "/".equals(path) ? "/" + relativePath : path + "/" + relativePath;
+	}
+
+	/**
+	 * Weakly references the session, equal by identity of the session.
+	 */
+	private static class SessionKey extends WeakReference<Session> {
+		private final int hashCode;
+
+		private SessionKey(final Session session, @Nullable final ReferenceQueue<Session> queue) {
+			super(session, queue);
+			this.hashCode = System.identityHashCode(session);
+		}
+
+		@Override
+		public boolean equals(final Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof SessionKey)) {
+				return false;
+			}
+			@Nullable
+			final Session session = get();
+			return session != null && session == ((SessionKey) other).get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	public interface Naming {
+		Naming IDENTITY = (parent, name) -> name;
+
+		String getName(Node parent, String name);
+	}
+
+	public interface ChildFactory {
+		Node addNode(Node parent, String name) throws RepositoryException;
+	}
+}
@@ -1,26 +1,56 @@
 package com.merkle.oss.magnolia.powernode;
 
+import info.magnolia.jcr.RuntimeRepositoryException;
 import info.magnolia.jcr.util.NodeNameHelper;
 import info.magnolia.jcr.util.NodeTypes;
 import info.magnolia.jcr.wrapper.DelegateNodeWrapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import javax.jcr.Binary;
 import javax.jcr.Node;
+import javax.jcr.NodeIterator;
 import javax.jcr.Property;
 import javax.jcr.PropertyIterator;
 import javax.jcr.RepositoryException;
 import javax.jcr.Session;
+import javax.jcr.observation.EventListener;
 
 import com.merkle.oss.magnolia.powernode.predicate.magnolia.IsMetaData;
 import com.merkle.oss.magnolia.powernode.predicate.magnolia.IsMetaDataProperty;
@@ -29,22 +59,40 @@ import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 
 public class NodeService extends RepositoryExceptionDelegator {
+	private static final Predicate<Node> IS_NOT_META_DATA = new IsMetaData<>().negate();
+	private static final IsMetaDataProperty IS_META_DATA_PROPERTY = new IsMetaDataProperty();
+	private static final Predicate<Node> ALL_NODES = node -> true;
+	private static final Predicate<Node> NO_NODES = node -> false;
+	private static final Predicate<Property> ALL_PROPERTIES = property -> true;
+	private static final BiConsumer<Node, Node> NO_OP_COPY_CONSUMER = (src, copy) -> {};
 	private final LocalizedNameProvider localizedNameProvider;
 	private final NodeNameHelper nodeNameHelper;
 	private final JcrSessionProvider jcrSessionProvider;
 	private final PropertyService propertyService;
+	private final NodePathResolver nodePathResolver;
 
-	@Inject
 	public NodeService(
 			final LocalizedNameProvider localizedNameProvider,
 			final NodeNameHelper nodeNameHelper,
 			final JcrSessionProvider jcrSessionProvider,
 			final PropertyService propertyService
+	) {
+		this(localizedNameProvider, nodeNameHelper, jcrSessionProvider, propertyService, new NodePathResolver());
+	}
+
+	@Inject
+	public NodeService(
+			final LocalizedNameProvider localizedNameProvider,
+			final NodeNameHelper nodeNameHelper,
+			final JcrSessionProvider jcrSessionProvider,
+			final PropertyService propertyService,
+			final NodePathResolver nodePathResolver
 	) {
 		this.localizedNameProvider = localizedNameProvider;
 		this.nodeNameHelper = nodeNameHelper;
 		this.jcrSessionProvider = jcrSessionProvider;
 		this.propertyService = propertyService;
+		this.nodePathResolver = nodePathResolver;
 	}
 
 	public Optional<Session> getSession(final String workspace) {
@@ -55,20 +103,34 @@ public class NodeService extends RepositoryExceptionDelegator {
 		return get(() -> jcrSessionProvider.getSystemSession(workspace));
 	}
 
+	/**
+	 * @see JcrSessionProvider#addEventListener(String, String, boolean, int, EventListener)
+	 */
+	public JcrSessionProvider.EventListenerRegistration addEventListener(final String workspace, final String path, final boolean subNodes, final int eventTypes, final EventListener listener) {
+		return getOrThrow(() -> jcrSessionProvider.addEventListener(workspace, path, subNodes, eventTypes, listener));
+	}
+
 	public Optional<Node> getByIdentifier(final String workspace, final String identifier) {
 		return getSession(workspace).flatMap(session -> getByIdentifier(session, identifier));
 	}
 
 	public Optional<Node> getByIdentifier(final Session session, final String identifier) {
-		return get(() -> session.getNodeByIdentifier(identifier));
+		return propertyService.getNodeMemo(session)
+				.map(memo -> memo.getByIdentifier(identifier, () -> get(() -> session.getNodeByIdentifier(identifier))))
+				.orElseGet(() -> get(() -> session.getNodeByIdentifier(identifier)));
 	}
 
 	public Optional<Node> getByPath(final String workspace, final String path) {
 		return getSession(workspace).flatMap(session -> getByPath(session, path));
 	}
 
+	/**
+	 * Probes the existence first, since constructing a PathNotFoundException (incl. stack trace) is far more expensive than the lookup of a missing node.
+	 */
 	public Optional<Node> getByPath(final Session session, final String path) {
-		return get(() -> session.getNode(path));
+		return propertyService.getNodeMemo(session)
+				.map(memo -> memo.getByPath(path, () -> get(() -> propertyService.getContentCache().getByPath(session, path))))
+				.orElseGet(() -> get(() -> propertyService.getContentCache().getByPath(session, path)));
 	}
 
 	public Optional<Node> getRootNode(final String workspace) {
@@ -82,31 +144,120 @@ public class NodeService extends RepositoryExceptionDelegator {
 	public void rename(final Node node, final String newName) {
 		run(() -> {
 			if (!Objects.equals(node.getName(), newName)) {
-				final String validatedName = nodeNameHelper.getValidatedName(newName);
-				final String destinationPath = node.getParent().getPath()  + (node.getParent().getDepth() > 0 ? "/" : "") + validatedName;
+				renameAll(node.getParent(), Map.of(node.getName(), newName));
+			}
+		});
+	}
 
+	/**
+	 * Renames the children of the parent (old name -> new name) and keeps their order.<br>
+	 * The sibling order is captured once and restored with the minimal number of {@link Node#orderBefore(String, String)} calls
+	 * (all siblings that are not part of the longest subsequence already in order), so renaming all n children is O(n log n) instead of quadratic.
+	 * Names may be swapped, renaming to the name of a sibling that is not renamed fails.
+	 */
+	public void renameAll(final Node parent, final Map<String, String> newNames) {
+		run(() -> {
+			final List<String> order = new ArrayList<>();
+			// old name -> new name (validated)
+			final Map<String, String> renames = new LinkedHashMap<>();
+			final List<Node> renamedNodes = new ArrayList<>();
+			final NodeIterator children = parent.getNodes();
+			while (children.hasNext()) {
+				final Node child = children.nextNode();
+				final String name = child.getName();
 				@Nullable
-				final Node nextSibling = getNextSibling(node).orElse(null);
-				node.getSession().move(node.getPath(), destinationPath);
-
-				if(nextSibling != null) {
-					// Restore order of nodes (https://experienceleaguecommunities.adobe.com/t5/adobe-experience-manager/change-node-name-without-move-method/m-p/299414)
-					node.getParent().orderBefore(validatedName, nextSibling.getName());
+				final String newName = newNames.get(name);
+				final String validatedName = newName != null ? nodeNameHelper.getValidatedName(newName) : name;
+				if (!validatedName.equals(name)) {
+					renames.put(name, validatedName);
+					renamedNodes.add(child);
+				}
+				order.add(validatedName);
+			}
+			if (renames.isEmpty()) {
+				return;
+			}
+			invalidateNodeMemo(parent);
+			final Session session = parent.getSession();
+			final String parentPath = parent.getPath() + (parent.getDepth() > 0 ? "/" : "");
+			// targets still occupied by another renamed sibling are moved via a temporary name (e.g. swaps)
+			final Map<String, String> deferred = new LinkedHashMap<>();
+			for (Map.Entry<String, String> rename : renames.entrySet()) {
+				if (renames.containsKey(rename.getValue())) {
+					final String temporaryName = UUID.randomUUID().toString();
+					session.move(parentPath + rename.getKey(), parentPath + temporaryName);
+					deferred.put(temporaryName, rename.getValue());
+				} else {
+					session.move(parentPath + rename.getKey(), parentPath + rename.getValue());
 				}
+			}
+			for (Map.Entry<String, String> rename : deferred.entrySet()) {
+				session.move(parentPath + rename.getKey(), parentPath + rename.getValue());
+			}
+			restoreOrder(parent, order);
+			for (Node node : renamedNodes) {
 				NodeTypes.LastModified.update(node);
 			}
 		});
 	}
 
-	private Optional<Node> getNextSibling(final Node node) {
-		final String nodeName = getOrThrow(node::getName);
-		return getParent(node).stream().flatMap(this::streamChildren).dropWhile(sibling -> Objects.equals(getOrThrow(sibling::getName), nodeName)).findFirst();
+	private void restoreOrder(final Node parent, final List<String> order) throws RepositoryException {
+		final Map<String, Integer> positions = new HashMap<>();
+		for (int i = 0; i < order.size(); i++) {
+			positions.put(order.get(i), i);
+		}
+		final int[] currentPositions = new int[order.size()];
+		int index = 0;
+		final NodeIterator children = parent.getNodes();
+		while (children.hasNext() && index < currentPositions.length) {
+			currentPositions[index++] = positions.get(children.nextNode().getName());
+		}
+		final boolean[] inOrder = getLongestIncreasingSubsequence(currentPositions, order.size());
+		// from the end, so that the successor is already in place
+		for (int i = order.size() - 1; i >= 0; i--) {
+			if (!inOrder[i]) {
+				parent.orderBefore(order.get(i), i + 1 < order.size() ? order.get(i + 1) : null);
+			}
+		}
+	}
+
+	/**
+	 * @return whether each value (0 until size) is part of a longest increasing subsequence of the values.
+	 * Scans from the end, so that ties are resolved in favour of later values (fewer moves to the end).
+	 */
+	private boolean[] getLongestIncreasingSubsequence(final int[] values, final int size) {
+		// tails[length - 1] = index of the smallest (negated) tail of all increasing subsequences of that length
+		final int[] tails = new int[values.length];
+		final int[] predecessors = new int[values.length];
+		int length = 0;
+		for (int i = values.length - 1; i >= 0; i--) {
+			final int value = -values[i];
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				final int middle = (low + high) >>> 1;
+				if (-values[tails[middle]] < value) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			predecessors[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			length = Math.max(length, low + 1);
+		}
+		final boolean[] inOrder = new boolean[size];
+		for (int i = length > 0 ? tails[length - 1] : -1; i >= 0; i = predecessors[i]) {
+			inOrder[values[i]] = true;
+		}
+		return inOrder;
 	}
 
 	public void move(final Node node, final Node newParent) {
 		if (!getOrThrow(() -> node.getParent().isSame(newParent))) {
 			run(() -> {
 				final String destinationPath = newParent.getPath() + "/" + node.getName();
+				invalidateNodeMemo(node);
 				node.getSession().move(node.getPath(), destinationPath);
 				NodeTypes.LastModified.update(node);
 				NodeTypes.LastModified.update(newParent);
@@ -114,50 +265,132 @@ public class NodeService extends RepositoryExceptionDelegator {
 		}
 	}
 
+	public void remove(final Node node) {
+		run(() -> {
+			invalidateNodeMemo(node);
+			node.remove();
+		});
+	}
+
+	/**
+	 * Copies the node without children.
+	 */
+	public void copy(final Node src, final Node dest) {
+		copy(src, dest, NO_NODES, ALL_PROPERTIES, NO_OP_COPY_CONSUMER);
+	}
+
+	public void copyRecursive(final Node src, final Node dest) {
+		copy(src, dest, ALL_NODES, ALL_PROPERTIES, NO_OP_COPY_CONSUMER);
+	}
+
+	/**
+	 * Copies the node and the matching descendants into dest (meta data nodes and properties excluded).<br>
+	 * The filters are compiled once per copy, accept-all predicates ({@link #copyRecursive(Node, Node)}) aren't evaluated at all.
+	 */
 	public void copy(final Node src, final Node dest, final Predicate<Node> recursiveChildNodePredicate, final Predicate<Property> propertyPredicate, final BiConsumer<Node, Node> copyConsumer) {
 		run(() -> {
-			final Node copy = dest.addNode(src.getName(), src.getPrimaryNodeType().getName());
-			copyProperties(src, copy, propertyPredicate);
-			copyConsumer.accept(src, copy);
-			streamChildren(src, recursiveChildNodePredicate).forEach(page ->
-					copy(page, copy, recursiveChildNodePredicate, propertyPredicate, copyConsumer)
+			invalidateNodeMemo(dest);
+			copyNode(
+					src,
+					dest,
+					compileChildNodePredicate(recursiveChildNodePredicate),
+					propertyPredicate == ALL_PROPERTIES ? null : propertyPredicate,
+					copyConsumer == NO_OP_COPY_CONSUMER ? null : copyConsumer
 			);
 		});
 	}
 
-	private void copyProperties(final Node src, final Node dest, final Predicate<Property> propertyPredicate) throws RepositoryException {
+	private Predicate<Node> compileChildNodePredicate(final Predicate<Node> recursiveChildNodePredicate) {
+		if (recursiveChildNodePredicate == ALL_NODES) {
+			return IS_NOT_META_DATA;
+		}
+		if (recursiveChildNodePredicate == NO_NODES) {
+			return NO_NODES;
+		}
+		return IS_NOT_META_DATA.and(recursiveChildNodePredicate);
+	}
+
+	private void copyNode(
+			final Node src,
+			final Node dest,
+			final Predicate<Node> childNodePredicate,
+			@Nullable final Predicate<Property> propertyPredicate,
+			@Nullable final BiConsumer<Node, Node> copyConsumer
+	) throws RepositoryException {
+		final Node copy = dest.addNode(src.getName(), src.getPrimaryNodeType().getName());
+		copyProperties(src, copy, propertyPredicate);
+		if (copyConsumer != null) {
+			copyConsumer.accept(src, copy);
+		}
+		if (childNodePredicate != NO_NODES) {
+			final NodeIterator children = src.getNodes();
+			while (children.hasNext()) {
+				final Node child = children.nextNode();
+				if (childNodePredicate.test(child)) {
+					copyNode(child, copy, childNodePredicate, propertyPredicate, copyConsumer);
+				}
+			}
+		}
+	}
+
+	private void copyProperties(final Node src, final Node dest, @Nullable final Predicate<Property> propertyPredicate) throws RepositoryException {
 		final PropertyIterator properties = src.getProperties();
 		while (properties.hasNext()) {
 			final Property property = properties.nextProperty();
-			if(new IsMetaDataProperty().negate().and(propertyPredicate).test(property)) {
+			final String propertyName = property.getName();
+			if(!IS_META_DATA_PROPERTY.testName(propertyName) && (propertyPredicate == null || propertyPredicate.test(property))) {
 				if(property.isMultiple()) {
-					dest.setProperty(property.getName(), property.getValues());
+					dest.setProperty(propertyName, property.getValues());
 				}else {
-					dest.setProperty(property.getName(), property.getValue());
+					dest.setProperty(propertyName, property.getValue());
 				}
 			}
 		}
 	}
 
+	/**
+	 * @see NodePathResolver
+	 */
 	public Node getOrAddChild(final Node node, @Nullable final String primaryNodeTypeName, final String relativePath) {
-		final String[] relativePaths = relativePath.split("/", 2);
-		final Node childNode = getOrAddChildInternally(node, primaryNodeTypeName, relativePaths[0]);
-		if(relativePaths.length > 1) {
-			return getOrAddChild(childNode, primaryNodeTypeName, relativePaths[1]);
-		}
-		return childNode;
+		return getOrAddChild(node, () -> primaryNodeTypeName, relativePath);
 	}
 	public Node getOrAddChild(final Node node, @Nullable final String primaryNodeTypeName, final String relativePath, final Locale locale) {
-		final String[] relativePaths = relativePath.split("/", 2);
-		final Node childNode = localizeNode(node, relativePaths[0], locale, localizedChildNodeName -> getOrAddChildInternally(node, primaryNodeTypeName, localizedChildNodeName));
-		if(relativePaths.length > 1) {
-			return getOrAddChild(childNode, primaryNodeTypeName, relativePaths[1], locale);
-		}
-		return childNode;
+		return getOrThrow(() -> nodePathResolver.getOrAdd(
+				node,
+				relativePath,
+				(parent, name) -> localizedNameProvider.getLocalizedNodeName(parent, name, locale),
+				childFactory(() -> primaryNodeTypeName)
+		));
 	}
 
-	private Node getOrAddChildInternally(final Node node, @Nullable final String primaryNodeTypeName, final String childName) {
-		return getChild(node, childName).orElseGet(() -> getOrThrow(() -> node.addNode(childName, primaryNodeTypeName)));
+	/**
+	 * @param primaryNodeTypeName only evaluated if a node is added
+	 */
+	Node getOrAddChild(final Node node, final RepositoryProvider<String> primaryNodeTypeName, final String relativePath) {
+		return getOrThrow(() -> nodePathResolver.getOrAdd(node, relativePath, NodePathResolver.Naming.IDENTITY, childFactory(primaryNodeTypeName)));
+	}
+
+	private NodePathResolver.ChildFactory childFactory(final RepositoryProvider<String> primaryNodeTypeName) {
+		return (parent, name) -> {
+			invalidateNodeMemo(parent);
+			return parent.addNode(name, primaryNodeTypeName.get());
+		};
+	}
+
+	/**
+	 * Discards the pending changes of the session and the memoized lookups that may refer to them.
+	 */
+	void discardChanges(final Session session) throws RepositoryException {
+		session.refresh(false);
+		propertyService.getNodeMemo(session).ifPresent(NodeMemo::invalidate);
+		nodePathResolver.invalidate(session);
+	}
+
+	/**
+	 * Added, moved or removed nodes invalidate all memoized lookups of the session (paths of descendants change as well).
+	 */
+	private void invalidateNodeMemo(final Node node) throws RepositoryException {
+		propertyService.getNodeMemo(node.getSession()).ifPresent(NodeMemo::invalidate);
 	}
 
 	/**
@@ -171,36 +404,194 @@ public class NodeService extends RepositoryExceptionDelegator {
 		);
 	}
 
+	/**
+	 * Gets child by localizing all relative path names with the first existing locale of the fallback chain (per level), see {@link LocaleFallbackChainProvider}.<br>
+	 * The candidates of a level are resolved with a single {@link Node#getNodes(String[])} call.
+	 */
+	public Optional<Node> getChild(final Node node, final String relativePath, final List<Locale> locales) {
+		final String[] relativePaths = relativePath.split("/", 2);
+		final List<String> localizedChildNodeNames = localizeNode(node, relativePaths[0], locales);
+		return getFirstChild(node, localizedChildNodeNames).flatMap(child ->
+				relativePaths.length > 1 ? getChild(child, relativePaths[1], locales) : Optional.of(child)
+		);
+	}
+
+	private Optional<Node> getFirstChild(final Node node, final List<String> childNodeNames) {
+		if (childNodeNames.size() == 1) {
+			return getChild(node, childNodeNames.get(0));
+		}
+		return get(() -> {
+			@Nullable
+			Node first = null;
+			int firstIndex = childNodeNames.size();
+			final NodeIterator iterator = node.getNodes(childNodeNames.toArray(new String[0]));
+			while (iterator.hasNext()) {
+				final Node child = iterator.nextNode();
+				final int index = childNodeNames.indexOf(child.getName());
+				if (index >= 0 && index < firstIndex) {
+					first = child;
+					firstIndex = index;
+				}
+			}
+			return first;
+		});
+	}
+
 	public Optional<Node> getChild(final Node node, final String relativePath) {
-		return get(() -> node.getNode(relativePath));
+		return get(() -> node.hasNode(relativePath) ? node.getNode(relativePath) : null);
 	}
 
 	public Stream<Node> streamChildren(final Node node) {
-		return get(node::getNodes).stream()
-				.map(nodeIterator -> (Iterator<Node>)nodeIterator)
-				.flatMap(nodeIterator ->
-						StreamSupport.stream(Spliterators.spliteratorUnknownSize(nodeIterator, Spliterator.ORDERED), false)
-				)
-				.filter(new IsMetaData<>().negate());
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(getChildIterator(node), Spliterator.ORDERED), false)
+				.filter(IS_NOT_META_DATA);
 	}
 
 	public Stream<Node> streamChildren(final Node node, final Predicate<Node> predicate) {
 		return streamChildren(node).filter(predicate);
 	}
 
+	/**
+	 * Streams all descendants depth first (pre-order).
+	 */
 	public Stream<Node> streamChildrenRecursive(final Node node) {
-		return streamChildren(node).flatMap(child ->
-				Stream.concat(
-						Stream.of(child),
-						streamChildrenRecursive(child)
-				)
-		);
+		return streamChildrenRecursive(node, NodeTraversal.depthFirst());
 	}
 
 	public Stream<Node> streamChildrenRecursive(final Node node, final Predicate<Node> predicate) {
 		return streamChildrenRecursive(node).filter(predicate);
 	}
 
+	/**
+	 * Streams all descendants breadth first (level-order).
+	 */
+	public Stream<Node> streamChildrenRecursiveBreadthFirst(final Node node) {
+		return streamChildrenRecursive(node, NodeTraversal.breadthFirst());
+	}
+
+	public Stream<Node> streamChildrenRecursiveBreadthFirst(final Node node, final Predicate<Node> predicate) {
+		return streamChildrenRecursiveBreadthFirst(node).filter(predicate);
+	}
+
+	/**
+	 * Streams the descendants visited by the traversal (pruned subtrees are not loaded at all).
+	 */
+	public Stream<Node> streamChildrenRecursive(final Node node, final NodeTraversal<Node> traversal) {
+		return StreamSupport.stream(NodeTreeSpliterator.create(node, traversal, this::getChildIterator, IS_NOT_META_DATA), false);
+	}
+
+	/**
+	 * @param wrapper applied once per visited node, the traversal predicates are tested against the wrapped nodes (e.g. power nodes)
+	 */
+	<N extends Node> Stream<N> streamWrappedChildrenRecursive(final Node node, final NodeTraversal<N> traversal, final Function<Node, N> wrapper) {
+		return StreamSupport.stream(NodeTreeSpliterator.create(node, traversal, this::getChildIterator, IS_NOT_META_DATA, wrapper), false);
+	}
+
+	/**
+	 * @param predicate has no impact on the traversed children (only filters)
+	 */
+	public Stream<Node> streamChildrenRecursive(final Node node, final NodeTraversal<Node> traversal, final Predicate<Node> predicate) {
+		return streamChildrenRecursive(node, traversal).filter(predicate);
+	}
+
+	/**
+	 * Collects the descendants visited by the traversal in parallel.<br>
+	 * The nodes up to the split depth are collected by the calling thread, each subtree below is traversed by a task of the executor.
+	 * Since jcr sessions are not thread safe, every task resolves its subtree with the system session of its worker thread ({@link JcrSessionProvider#getSystemSession(String)}).<br>
+	 * The nodes passed to the collector therefore belong to different sessions and must not escape it (e.g. collect paths or property values instead).
+	 * Order and terminate predicate of the traversal only apply within a subtree.
+	 */
+	public <R> R collectChildrenRecursiveParallel(final Node node, final NodeTraversal<Node> traversal, final int splitDepth, final ExecutorService executor, final Collector<Node, ?, R> collector) {
+		return collectWrappedChildrenRecursiveParallel(node, traversal, Function.identity(), splitDepth, executor, collector);
+	}
+
+	/**
+	 * @param wrapper applied once per visited node, the traversal predicates are tested against the wrapped nodes (e.g. power nodes)
+	 */
+	<N extends Node, R> R collectWrappedChildrenRecursiveParallel(final Node node, final NodeTraversal<N> traversal, final Function<Node, N> wrapper, final int splitDepth, final ExecutorService executor, final Collector<N, ?, R> collector) {
+		return collectParallel(node, traversal, wrapper, splitDepth, executor, collector);
+	}
+
+	private <N extends Node, A, R> R collectParallel(final Node node, final NodeTraversal<N> traversal, final Function<Node, N> wrapper, final int splitDepth, final ExecutorService executor, final Collector<N, A, R> collector) {
+		final String workspace = getOrThrow(() -> node.getSession().getWorkspace().getName());
+		final A container = collector.supplier().get();
+		List<Node> parents = List.of(node);
+		for (int depth = 1; depth <= splitDepth && !parents.isEmpty(); depth++) {
+			final List<Node> descending = new ArrayList<>();
+			final int childDepth = depth;
+			for (Node parent : parents) {
+				streamChildren(parent).forEach(child -> {
+					final N wrapped = wrapper.apply(child);
+					collector.accumulator().accept(container, wrapped);
+					if (traversal.isDescending(wrapped, childDepth)) {
+						descending.add(child);
+					}
+				});
+			}
+			parents = descending;
+		}
+
+		final List<Future<A>> branches = new ArrayList<>();
+		// parents only remain if the traversal descends below the split depth
+		if (!parents.isEmpty()) {
+			final NodeTraversal<N> branchTraversal = traversal.below(splitDepth).orElseThrow();
+			final Thread caller = Thread.currentThread();
+			for (Node parent : parents) {
+				final String identifier = getOrThrow(parent::getIdentifier);
+				branches.add(executor.submit(() -> collectBranch(caller, workspace, identifier, branchTraversal, wrapper, collector)));
+			}
+		}
+		A result = container;
+		for (Future<A> branch : branches) {
+			result = collector.combiner().apply(result, await(branch, branches));
+		}
+		return collector.finisher().apply(result);
+	}
+
+	/**
+	 * Runs on a pool thread, the thread-bound system session is released afterwards.<br>
+	 * Branches run by the calling thread (e.g. caller-runs rejection policy or work stealing) keep its system sessions, which may still be in use.
+	 */
+	private <N extends Node, A> A collectBranch(final Thread caller, final String workspace, final String identifier, final NodeTraversal<N> traversal, final Function<Node, N> wrapper, final Collector<N, A, ?> collector) throws RepositoryException {
+		if (Thread.currentThread() == caller) {
+			return collectBranch(workspace, identifier, traversal, wrapper, collector);
+		}
+		try {
+			return collectBranch(workspace, identifier, traversal, wrapper, collector);
+		} finally {
+			jcrSessionProvider.releaseSystemSessions();
+		}
+	}
+
+	private <N extends Node, A> A collectBranch(final String workspace, final String identifier, final NodeTraversal<N> traversal, final Function<Node, N> wrapper, final Collector<N, A, ?> collector) throws RepositoryException {
+		final Node branch = jcrSessionProvider.getSystemSession(workspace).getNodeByIdentifier(identifier);
+		final A container = collector.supplier().get();
+		streamWrappedChildrenRecursive(branch, traversal, wrapper).forEach(child -> collector.accumulator().accept(container, child));
+		return container;
+	}
+
+	private <T> T await(final Future<T> future, final List<? extends Future<?>> all) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			all.forEach(other -> other.cancel(true));
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while traversing subtrees", e);
+		} catch (ExecutionException e) {
+			all.forEach(other -> other.cancel(true));
+			if (e.getCause() instanceof RepositoryException repositoryException) {
+				throw new RuntimeRepositoryException(repositoryException.getMessage(), repositoryException);
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("Failed to traverse subtree", e.getCause());
+		}
+	}
+
+	private Iterator<Node> getChildIterator(final Node node) {
+		return get(node::getNodes).map(nodeIterator -> (Iterator<Node>)nodeIterator).orElseGet(Collections::emptyIterator);
+	}
+
 	public Optional<Node> getParent(final Node node) {
 		return get(node::getParent);
 	}
@@ -239,18 +630,158 @@ public class NodeService extends RepositoryExceptionDelegator {
 		return localizeProperty(node, propertyName, locale, localizedPropertyName -> hasProperty(node, localizedPropertyName));
 	}
 
+	/**
+	 * @param locales fallback chain, see {@link LocaleFallbackChainProvider}
+	 */
+	public boolean hasProperty(final Node node, final String propertyName, final List<Locale> locales) {
+		return getOrThrow(() -> node.getProperties(localizeProperty(node, propertyName, locales).toArray(new String[0])).hasNext());
+	}
+
 	public <T> Optional<T> getProperty(final Node node, final String propertyName, final PropertyService.PropertyProvider<T> provider) {
 		return get(() -> propertyService.getProperty(node, propertyName, provider)).flatMap(Function.identity());
 	}
 	public <T> Optional<T> getProperty(final Node node, final String propertyName, final Locale locale, final PropertyService.PropertyProvider<T> provider) {
 		return localizeProperty(node, propertyName, locale, localizedPropertyName -> getProperty(node, localizedPropertyName, provider));
 	}
+	/**
+	 * Resolves the property of the first locale of the fallback chain which exists in a single pass over the node's properties.
+	 * @param locales fallback chain, see {@link LocaleFallbackChainProvider}
+	 */
+	public <T> Optional<T> getProperty(final Node node, final String propertyName, final List<Locale> locales, final PropertyService.PropertyProvider<T> provider) {
+		return get(() -> propertyService.getProperty(node, localizeProperty(node, propertyName, locales), provider)).flatMap(Function.identity());
+	}
+	/**
+	 * Primitive accessors, e.g. to sort or filter by numeric properties without boxing and optional allocation.
+	 */
+	public long getLongOrDefault(final Node node, final String propertyName, final long defaultValue) {
+		try {
+			return propertyService.getLong(node, propertyName, defaultValue);
+		} catch (RepositoryException e) {
+			log(e);
+		} catch (RuntimeRepositoryException e) {
+			log(e);
+		}
+		return defaultValue;
+	}
+	public long getLongOrDefault(final Node node, final String propertyName, final Locale locale, final long defaultValue) {
+		return getLongOrDefault(node, localizeProperty(node, propertyName, locale), defaultValue);
+	}
+	public int getIntOrDefault(final Node node, final String propertyName, final int defaultValue) {
+		return (int) getLongOrDefault(node, propertyName, defaultValue);
+	}
+	public int getIntOrDefault(final Node node, final String propertyName, final Locale locale, final int defaultValue) {
+		return (int) getLongOrDefault(node, propertyName, locale, defaultValue);
+	}
+	public double getDoubleOrDefault(final Node node, final String propertyName, final double defaultValue) {
+		try {
+			return propertyService.getDouble(node, propertyName, defaultValue);
+		} catch (RepositoryException e) {
+			log(e);
+		} catch (RuntimeRepositoryException e) {
+			log(e);
+		}
+		return defaultValue;
+	}
+	public double getDoubleOrDefault(final Node node, final String propertyName, final Locale locale, final double defaultValue) {
+		return getDoubleOrDefault(node, localizeProperty(node, propertyName, locale), defaultValue);
+	}
+	public boolean getBooleanOrDefault(final Node node, final String propertyName, final boolean defaultValue) {
+		try {
+			return propertyService.getBoolean(node, propertyName, defaultValue);
+		} catch (RepositoryException e) {
+			log(e);
+		} catch (RuntimeRepositoryException e) {
+			log(e);
+		}
+		return defaultValue;
+	}
+	public boolean getBooleanOrDefault(final Node node, final String propertyName, final Locale locale, final boolean defaultValue) {
+		return getBooleanOrDefault(node, localizeProperty(node, propertyName, locale), defaultValue);
+	}
+	public OptionalLong getOptionalLong(final Node node, final String propertyName) {
+		return getOrElse(() -> propertyService.getOptionalLong(node, propertyName), OptionalLong.empty());
+	}
+	public OptionalLong getOptionalLong(final Node node, final String propertyName, final Locale locale) {
+		return localizeProperty(node, propertyName, locale, localizedPropertyName -> getOptionalLong(node, localizedPropertyName));
+	}
+	public OptionalDouble getOptionalDouble(final Node node, final String propertyName) {
+		return getOrElse(() -> propertyService.getOptionalDouble(node, propertyName), OptionalDouble.empty());
+	}
+	public OptionalDouble getOptionalDouble(final Node node, final String propertyName, final Locale locale) {
+		return localizeProperty(node, propertyName, locale, localizedPropertyName -> getOptionalDouble(node, localizedPropertyName));
+	}
+	/**
+	 * Reads all requested properties in a single pass, e.g. all properties a component renders.
+	 */
+	public PropertyBag getPropertyBag(final Node node, final String... propertyNames) {
+		return getOrThrow(() -> propertyService.getPropertyBag(node, UnaryOperator.identity(), propertyNames));
+	}
+	public PropertyBag getPropertyBag(final Node node, final Locale locale, final String... propertyNames) {
+		return getOrThrow(() -> propertyService.getPropertyBag(node, propertyName -> localizeProperty(node, propertyName, locale), propertyNames));
+	}
 	public <T> Stream<T> streamMultiProperty(final Node node, final String propertyName, final PropertyService.PropertyProvider<T> provider) {
 		return get(() -> propertyService.streamMultiProperty(node, propertyName, provider)).stream().flatMap(Function.identity());
 	}
 	public <T> Stream<T> streamMultiProperty(final Node node, final String propertyName, final Locale locale, final PropertyService.PropertyProvider<T> provider) {
 		return localizeProperty(node, propertyName, locale, localizedPropertyName -> streamMultiProperty(node, localizedPropertyName, provider));
 	}
+	/**
+	 * @param locales fallback chain, see {@link LocaleFallbackChainProvider}
+	 */
+	public <T> Stream<T> streamMultiProperty(final Node node, final String propertyName, final List<Locale> locales, final PropertyService.PropertyProvider<T> provider) {
+		return get(() -> propertyService.streamMultiProperty(node, localizeProperty(node, propertyName, locales), provider)).stream().flatMap(Function.identity());
+	}
+
+
+	/**
+	 * Streaming binary access without copying the payload (in contrast to {@link ValueConverter#getBinary(javax.jcr.Value)}).<br>
+	 * IOExceptions (e.g. an aborted download) are rethrown as {@link UncheckedIOException}.
+	 */
+	public <T> Optional<T> readBinary(final Node node, final String propertyName, final PropertyService.BinaryReader<T> reader) {
+		return get(() -> {
+			try {
+				return propertyService.readBinary(node, propertyName, reader);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e.getMessage(), e);
+			}
+		}).flatMap(Function.identity());
+	}
+	/**
+	 * @return stream of the binary, which must be closed by the caller
+	 */
+	public Optional<InputStream> getBinaryStream(final Node node, final String propertyName) {
+		return get(() -> propertyService.getBinaryStream(node, propertyName)).flatMap(Function.identity());
+	}
+	/**
+	 * @return channel of the binary, which must be closed by the caller
+	 */
+	public Optional<ReadableByteChannel> getBinaryChannel(final Node node, final String propertyName) {
+		return getBinaryStream(node, propertyName).map(Channels::newChannel);
+	}
+	public OptionalLong getBinarySize(final Node node, final String propertyName) {
+		return readBinary(node, propertyName, Binary::getSize).map(OptionalLong::of).orElseGet(OptionalLong::empty);
+	}
+	/**
+	 * @return number of bytes read into the buffer starting at the position of the binary, -1 if the binary doesn't exist or the position is beyond its end
+	 */
+	public int readBinary(final Node node, final String propertyName, final byte[] buffer, final long position) {
+		return readBinary(node, propertyName, binary -> binary.read(buffer, position)).orElse(-1);
+	}
+	/**
+	 * @return number of bytes transferred (e.g. to a servlet output stream)
+	 */
+	public OptionalLong transferBinary(final Node node, final String propertyName, final OutputStream outputStream) {
+		return readBinary(node, propertyName, binary -> propertyService.transferTo(binary, outputStream)).map(OptionalLong::of).orElseGet(OptionalLong::empty);
+	}
+	public OptionalLong transferBinary(final Node node, final String propertyName, final WritableByteChannel channel) {
+		return readBinary(node, propertyName, binary -> propertyService.transferTo(binary, channel)).map(OptionalLong::of).orElseGet(OptionalLong::empty);
+	}
+	/**
+	 * Transfers a range of the binary, e.g. to answer a http range request.
+	 */
+	public OptionalLong transferBinary(final Node node, final String propertyName, final long position, final long length, final OutputStream outputStream) {
+		return readBinary(node, propertyName, binary -> propertyService.transferTo(binary, position, length, outputStream)).map(OptionalLong::of).orElseGet(OptionalLong::empty);
+	}
 
 
 	public <T> Property setProperty(final Node node, final String propertyName, @Nullable final T value, final PropertyService.ValueFactory<T> factory) {
@@ -259,6 +790,37 @@ public class NodeService extends RepositoryExceptionDelegator {
 	public <T> Property setProperty(final Node node, final String propertyName, final Locale locale, @Nullable final T value, final PropertyService.ValueFactory<T> factory) {
 		return localizeProperty(node, propertyName, locale, localizedPropertyName -> setProperty(node, localizedPropertyName, value, factory));
 	}
+	/**
+	 * Streams the binary into the repository without building it in memory first.
+	 */
+	public Property setBinary(final Node node, final String propertyName, final InputStream stream) {
+		return setBinary(node, propertyName, stream, null);
+	}
+	/**
+	 * @param digest computed while streaming and stored as property, e.g. to deduplicate assets
+	 */
+	public Property setBinary(final Node node, final String propertyName, final InputStream stream, @Nullable final BinaryDigest digest) {
+		return getOrThrow(() -> propertyService.setBinary(node, propertyName, stream, digest));
+	}
+	public Property setBinary(final Node node, final String propertyName, final ReadableByteChannel channel) {
+		return setBinary(node, propertyName, channel, null);
+	}
+	public Property setBinary(final Node node, final String propertyName, final ReadableByteChannel channel, @Nullable final BinaryDigest digest) {
+		return setBinary(node, propertyName, Channels.newInputStream(channel), digest);
+	}
+	public Property setBinary(final Node node, final String propertyName, final Path path) {
+		return setBinary(node, propertyName, path, null);
+	}
+	/**
+	 * The file is closed even if the binary can't be created (closing it again after {@link javax.jcr.ValueFactory#createBinary(InputStream)} is a no-op).
+	 */
+	public Property setBinary(final Node node, final String propertyName, final Path path, @Nullable final BinaryDigest digest) {
+		try (InputStream stream = Files.newInputStream(path)) {
+			return setBinary(node, propertyName, stream, digest);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e.getMessage(), e);
+		}
+	}
 	public <T> Property setMultiProperty(final Node node, final String propertyName, final Iterable<T> values, final PropertyService.ValueFactory<T> factory) {
 		return getOrThrow(() -> propertyService.setMultiProperty(node, propertyName, values, factory));
 	}
@@ -275,11 +837,28 @@ public class NodeService extends RepositoryExceptionDelegator {
 	}
 
 	private <T> T localizeProperty(final Node node, final String propertyName, final Locale locale, final Function<String, T> provider) {
-        return provider.apply(localizedNameProvider.getLocalizedPropertyName(node, propertyName, locale));
+		return provider.apply(localizeProperty(node, propertyName, locale));
+	}
+	private String localizeProperty(final Node node, final String propertyName, final Locale locale) {
+		return localizedNameProvider.getLocalizedPropertyName(node, propertyName, locale);
 	}
 	private <T> T localizeNode(final Node node, final String nodeName, final Locale locale, final Function<String, T> provider) {
 		return provider.apply(localizedNameProvider.getLocalizedNodeName(node, nodeName, locale));
 	}
+	private List<String> localizeProperty(final Node node, final String propertyName, final List<Locale> locales) {
+		final Set<String> localizedPropertyNames = new LinkedHashSet<>();
+		for (Locale locale : locales) {
+			localizedPropertyNames.add(localizeProperty(node, propertyName, locale));
+		}
+		return List.copyOf(localizedPropertyNames);
+	}
+	private List<String> localizeNode(final Node node, final String nodeName, final List<Locale> locales) {
+		final Set<String> localizedNodeNames = new LinkedHashSet<>();
+		for (Locale locale : locales) {
+			localizedNodeNames.add(localizedNameProvider.getLocalizedNodeName(node, nodeName, locale));
+		}
+		return List.copyOf(localizedNodeNames);
+	}
 
 	public <T extends DelegateNodeWrapper> Optional<T> getWrapper(final Node node, final Class<T> wrapper) {
 		if (wrapper.isInstance(node)) {
@@ -0,0 +1,112 @@
+package com.merkle.oss.magnolia.powernode;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jakarta.annotation.Nullable;
+import javax.jcr.Node;
+
+/**
+ * Immutable specification of a recursive children traversal.<br>
+ * In contrast to the filter predicates of the streaming methods, the predicates of a traversal control which subtrees are visited at all.<br>
+ * e.g. pages of a navigation without entering area and component subtrees:
+ * <pre>{@code
+ * node.streamChildrenRecursive(NodeTraversal.<PowerNode>depthFirst().descend(new IsPage<>()), new IsPage<>())
+ * }</pre>
+ */
+public class NodeTraversal<N extends Node> {
+	private final Order order;
+	@Nullable
+	private final Predicate<N> descendPredicate;
+	private final int maxDepth;
+	@Nullable
+	private final Predicate<N> terminatePredicate;
+
+	private NodeTraversal(
+			final Order order,
+			@Nullable final Predicate<N> descendPredicate,
+			final int maxDepth,
+			@Nullable final Predicate<N> terminatePredicate
+	) {
+		this.order = order;
+		this.descendPredicate = descendPredicate;
+		this.maxDepth = maxDepth;
+		this.terminatePredicate = terminatePredicate;
+	}
+
+	public static <N extends Node> NodeTraversal<N> depthFirst() {
+		return new NodeTraversal<>(Order.DEPTH_FIRST, null, Integer.MAX_VALUE, null);
+	}
+
+	public static <N extends Node> NodeTraversal<N> breadthFirst() {
+		return new NodeTraversal<>(Order.BREADTH_FIRST, null, Integer.MAX_VALUE, null);
+	}
+
+	/**
+	 * @param descendPredicate children of nodes not matching are skipped (the node itself is still returned)
+	 */
+	public NodeTraversal<N> descend(final Predicate<N> descendPredicate) {
+		return new NodeTraversal<>(order, descendPredicate, maxDepth, terminatePredicate);
+	}
+
+	/**
+	 * @param maxDepth depth relative to the start node (1 = children only)
+	 */
+	public NodeTraversal<N> maxDepth(final int maxDepth) {
+		if (maxDepth < 1) {
+			throw new IllegalArgumentException("maxDepth must be positive, but was " + maxDepth);
+		}
+		return new NodeTraversal<>(order, descendPredicate, maxDepth, terminatePredicate);
+	}
+
+	/**
+	 * @param terminatePredicate the traversal ends after returning the first node matching
+	 */
+	public NodeTraversal<N> terminateAfter(final Predicate<N> terminatePredicate) {
+		return new NodeTraversal<>(order, descendPredicate, maxDepth, terminatePredicate);
+	}
+
+	/**
+	 * Converts the predicates to another node type, e.g. PowerNode predicates to plain jcr node predicates.
+	 */
+	public <M extends Node> NodeTraversal<M> map(final Function<M, N> mapper) {
+		return new NodeTraversal<>(
+				order,
+				descendPredicate != null ? node -> descendPredicate.test(mapper.apply(node)) : null,
+				maxDepth,
+				terminatePredicate != null ? node -> terminatePredicate.test(mapper.apply(node)) : null
+		);
+	}
+
+	/**
+	 * @return the traversal of a subtree starting at the given depth or empty if the max depth is reached.
+	 */
+	Optional<NodeTraversal<N>> below(final int depth) {
+		if (maxDepth == Integer.MAX_VALUE) {
+			return Optional.of(this);
+		}
+		return maxDepth > depth ? Optional.of(maxDepth(maxDepth - depth)) : Optional.empty();
+	}
+
+	public Order getOrder() {
+		return order;
+	}
+
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	public boolean isDescending(final N node, final int depth) {
+		return depth < maxDepth && (descendPredicate == null || descendPredicate.test(node));
+	}
+
+	public boolean isTerminating(final N node) {
+		return terminatePredicate != null && terminatePredicate.test(node);
+	}
+
+	public enum Order {
+		DEPTH_FIRST,
+		BREADTH_FIRST
+	}
+}
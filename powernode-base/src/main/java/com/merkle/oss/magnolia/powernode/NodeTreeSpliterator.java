@@ -0,0 +1,196 @@
+package com.merkle.oss.magnolia.powernode;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import jakarta.annotation.Nullable;
+import javax.jcr.Node;
+
+/**
+ * Iterative (non-recursive) spliterator over the descendants of a node (excluding the node itself).<br>
+ * Keeps one children iterator per level (depth first) or a queue of pending nodes (breadth first) instead of nesting a stream pipeline per visited node.<br>
+ * Children which don't match the children predicate are neither returned nor traversed.<br>
+ * The wrapper is applied once per returned node (e.g. to power nodes), the traversal predicates are tested against the wrapped node, while children are resolved on the plain node.
+ */
+public abstract class NodeTreeSpliterator<N extends Node> implements Spliterator<N> {
+	private final Function<Node, Iterator<Node>> childrenProvider;
+	private final Predicate<Node> childrenPredicate;
+	private final Function<Node, N> wrapper;
+	private final NodeTraversal<N> traversal;
+	private boolean terminated = false;
+
+	protected NodeTreeSpliterator(
+			final Function<Node, Iterator<Node>> childrenProvider,
+			final Predicate<Node> childrenPredicate,
+			final Function<Node, N> wrapper,
+			final NodeTraversal<N> traversal
+	) {
+		this.childrenProvider = childrenProvider;
+		this.childrenPredicate = childrenPredicate;
+		this.wrapper = wrapper;
+		this.traversal = traversal;
+	}
+
+	public static NodeTreeSpliterator<Node> create(
+			final Node node,
+			final NodeTraversal<Node> traversal,
+			final Function<Node, Iterator<Node>> childrenProvider,
+			final Predicate<Node> childrenPredicate
+	) {
+		return create(node, traversal, childrenProvider, childrenPredicate, Function.identity());
+	}
+
+	public static <N extends Node> NodeTreeSpliterator<N> create(
+			final Node node,
+			final NodeTraversal<N> traversal,
+			final Function<Node, Iterator<Node>> childrenProvider,
+			final Predicate<Node> childrenPredicate,
+			final Function<Node, N> wrapper
+	) {
+		return switch (traversal.getOrder()) {
+			case DEPTH_FIRST -> new DepthFirst<>(node, childrenProvider, childrenPredicate, wrapper, traversal);
+			case BREADTH_FIRST -> new BreadthFirst<>(node, childrenProvider, childrenPredicate, wrapper, traversal);
+		};
+	}
+
+	@Override
+	public boolean tryAdvance(final Consumer<? super N> action) {
+		if (terminated) {
+			return false;
+		}
+		@Nullable
+		final N next = next();
+		if (next == null) {
+			return false;
+		}
+		terminated = traversal.isTerminating(next);
+		action.accept(next);
+		return true;
+	}
+
+	@Nullable
+	protected abstract N next();
+
+	protected Iterator<Node> getChildren(final Node node) {
+		return childrenProvider.apply(node);
+	}
+
+	protected boolean isTraversed(final Node child) {
+		return childrenPredicate.test(child);
+	}
+
+	protected N wrap(final Node child) {
+		return wrapper.apply(child);
+	}
+
+	protected boolean isDescending(final N child, final int depth) {
+		return traversal.isDescending(child, depth);
+	}
+
+	@Override
+	@Nullable
+	public Spliterator<N> trySplit() {
+		// jcr sessions are not thread safe
+		return null;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | NONNULL;
+	}
+
+	/**
+	 * Pre-order: node1, node1/child1, node1/child1/grandChild1, node1/child2, node2, ...
+	 */
+	private static class DepthFirst<N extends Node> extends NodeTreeSpliterator<N> {
+		private final Deque<Iterator<Node>> stack = new ArrayDeque<>();
+		@Nullable
+		private Node expand;
+
+		private DepthFirst(final Node node, final Function<Node, Iterator<Node>> childrenProvider, final Predicate<Node> childrenPredicate, final Function<Node, N> wrapper, final NodeTraversal<N> traversal) {
+			super(childrenProvider, childrenPredicate, wrapper, traversal);
+			this.expand = node;
+		}
+
+		@Override
+		@Nullable
+		protected N next() {
+			if (expand != null) {
+				// children are only fetched once the consumer asks for the next node (e.g. findFirst doesn't load them)
+				stack.push(getChildren(expand));
+				expand = null;
+			}
+			while (!stack.isEmpty()) {
+				final Iterator<Node> children = stack.peek();
+				if (!children.hasNext()) {
+					stack.pop();
+					continue;
+				}
+				final Node child = children.next();
+				if (isTraversed(child)) {
+					final N wrapped = wrap(child);
+					if (isDescending(wrapped, stack.size())) {
+						expand = child;
+					}
+					return wrapped;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Level-order: node1, node2, node1/child1, node1/child2, node1/child1/grandChild1, ...
+	 */
+	private static class BreadthFirst<N extends Node> extends NodeTreeSpliterator<N> {
+		private final Deque<Node> queue = new ArrayDeque<>();
+		private Iterator<Node> children = Collections.emptyIterator();
+		private int parentDepth = 0;
+		private int parentsLeftInLevel = 1;
+		private int parentsInNextLevel = 0;
+
+		private BreadthFirst(final Node node, final Function<Node, Iterator<Node>> childrenProvider, final Predicate<Node> childrenPredicate, final Function<Node, N> wrapper, final NodeTraversal<N> traversal) {
+			super(childrenProvider, childrenPredicate, wrapper, traversal);
+			this.queue.add(node);
+		}
+
+		@Override
+		@Nullable
+		protected N next() {
+			while (true) {
+				while (children.hasNext()) {
+					final Node child = children.next();
+					if (isTraversed(child)) {
+						final N wrapped = wrap(child);
+						if (isDescending(wrapped, parentDepth + 1)) {
+							queue.add(child);
+							parentsInNextLevel++;
+						}
+						return wrapped;
+					}
+				}
+				if (queue.isEmpty()) {
+					return null;
+				}
+				if (parentsLeftInLevel == 0) {
+					parentDepth++;
+					parentsLeftInLevel = parentsInNextLevel;
+					parentsInNextLevel = 0;
+				}
+				parentsLeftInLevel--;
+				children = getChildren(queue.poll());
+			}
+		}
+	}
+}
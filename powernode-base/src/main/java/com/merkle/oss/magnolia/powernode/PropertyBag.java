@@ -0,0 +1,55 @@
+package com.merkle.oss.magnolia.powernode;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import jakarta.annotation.Nullable;
+import javax.jcr.Property;
+import javax.jcr.Value;
+
+/**
+ * Properties of a node read in a single pass (see {@link NodeService#getPropertyBag(javax.jcr.Node, String...)}).<br>
+ * Properties are accessed by the requested (not localized) name.
+ */
+public class PropertyBag extends RepositoryExceptionDelegator {
+	private final ValueConverter valueConverter;
+	private final Map<String, Property> properties;
+
+	PropertyBag(final ValueConverter valueConverter, final Map<String, Property> properties) {
+		this.valueConverter = valueConverter;
+		this.properties = properties;
+	}
+
+	public Set<String> getPropertyNames() {
+		return properties.keySet();
+	}
+
+	public boolean hasProperty(final String propertyName) {
+		return properties.containsKey(propertyName);
+	}
+
+	public <T> Optional<T> getProperty(final String propertyName, final PropertyService.PropertyProvider<T> provider) {
+		@Nullable
+		final Property property = properties.get(propertyName);
+		if (property != null) {
+			return get(() -> provider.get(valueConverter, property.getValue())).flatMap(Function.identity());
+		}
+		return Optional.empty();
+	}
+
+	public <T> Stream<T> streamMultiProperty(final String propertyName, final PropertyService.PropertyProvider<T> provider) {
+		@Nullable
+		final Property property = properties.get(propertyName);
+		if (property != null && getOrThrow(property::isMultiple)) {
+			final Stream.Builder<T> values = Stream.builder();
+			for (Value value : getOrThrow(property::getValues)) {
+				get(() -> provider.get(valueConverter, value)).flatMap(Function.identity()).ifPresent(values::add);
+			}
+			return values.build();
+		}
+		return Stream.empty();
+	}
+}
@@ -3,24 +3,57 @@ package com.merkle.oss.magnolia.powernode;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import javax.jcr.*;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 public class PropertyService {
+	private static final int BUFFER_SIZE = 8192;
 	private final ValueConverter.Factory valueConverterFactory;
+	private final ValueConverter.Factory cachingValueConverterFactory;
+	private final NodeMemoProvider nodeMemoProvider;
+	private final ContentCache contentCache;
 
-	@Inject
 	public PropertyService(final ValueConverter.Factory valueConverterFactory) {
+		this(valueConverterFactory, NodeMemoProvider.NONE);
+	}
+
+	public PropertyService(final ValueConverter.Factory valueConverterFactory, final NodeMemoProvider nodeMemoProvider) {
+		this(valueConverterFactory, nodeMemoProvider, new ContentCache.Disabled());
+	}
+
+	@Inject
+	public PropertyService(final ValueConverter.Factory valueConverterFactory, final NodeMemoProvider nodeMemoProvider, final ContentCache contentCache) {
 		this.valueConverterFactory = valueConverterFactory;
+		this.cachingValueConverterFactory = valueConverterFactory instanceof ValueConverter.CachingFactory ? valueConverterFactory : new ValueConverter.CachingFactory(valueConverterFactory);
+		this.nodeMemoProvider = nodeMemoProvider;
+		this.contentCache = contentCache;
 	}
 
 	<T> Property setProperty(final Node node, final String propertyName, final T value, final ValueFactory<T> valueFactory) throws RepositoryException {
+		invalidate(node);
 		return node.setProperty(propertyName, valueFactory.create(getValueConverter(node), value).orElse(null));
 	}
 
 	<T> Property setMultiProperty(final Node node, final String propertyName, final Iterable<T> values, final ValueFactory<T> valueFactory) throws RepositoryException {
+		invalidate(node);
 		final List<Value> list = new ArrayList<>();
 		final ValueConverter valueConverter = getValueConverter(node);
 		for (T value : values) {
@@ -31,16 +64,34 @@ public class PropertyService {
 
 	Optional<Property> removeProperty(final Node node, final String propertyName) throws RepositoryException {
 		@Nullable
-		final Property property = getProperty(node, propertyName).orElse(null);
+		final Property property = getPropertyOrNull(node, propertyName);
 		if(property != null) {
+			invalidate(node);
 			property.remove();
 		}
 		return Optional.ofNullable(property);
 	}
 
 	<T> Optional<T> getProperty(final Node node, final String propertyName, final PropertyProvider<T> provider) throws RepositoryException {
+		if (!contentCache.isEnabled()) {
+			return getProperty(node, getPropertyOrNull(node, propertyName), provider);
+		}
 		@Nullable
-		final Property property = getProperty(node, propertyName).orElse(null);
+		final Value value = contentCache.getValueOrNull(node, propertyName, () -> getPropertyOrNull(node, propertyName));
+		if(value != null) {
+			return provider.get(getValueConverter(node), value);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * @param propertyNames candidates in order of preference, resolved with a single {@link Node#getProperties(String[])} call
+	 */
+	<T> Optional<T> getProperty(final Node node, final List<String> propertyNames, final PropertyProvider<T> provider) throws RepositoryException {
+		return getProperty(node, getFirstPropertyOrNull(node, propertyNames), provider);
+	}
+
+	private <T> Optional<T> getProperty(final Node node, @Nullable final Property property, final PropertyProvider<T> provider) throws RepositoryException {
 		if(property != null) {
 			return provider.get(getValueConverter(node), property.getValue());
 		}
@@ -48,13 +99,36 @@ public class PropertyService {
 	}
 
 	<T> Stream<T> streamMultiProperty(final Node node, final String propertyName, final PropertyProvider<T> provider) throws RepositoryException {
+		if (!contentCache.isEnabled()) {
+			return streamMultiProperty(node, getPropertyOrNull(node, propertyName), provider);
+		}
 		@Nullable
-		final Property property = getProperty(node, propertyName).orElse(null);
+		final Value[] values = contentCache.getValuesOrNull(node, propertyName, () -> getPropertyOrNull(node, propertyName));
+		if(values != null) {
+			final Stream.Builder<T> builder = Stream.builder();
+			final ValueConverter valueConverter = getValueConverter(node);
+			for (Value value : values) {
+				provider.get(valueConverter, value).ifPresent(builder::add);
+			}
+			return builder.build();
+		}
+		return Stream.empty();
+	}
+
+	/**
+	 * @param propertyNames candidates in order of preference, resolved with a single {@link Node#getProperties(String[])} call
+	 */
+	<T> Stream<T> streamMultiProperty(final Node node, final List<String> propertyNames, final PropertyProvider<T> provider) throws RepositoryException {
+		return streamMultiProperty(node, getFirstPropertyOrNull(node, propertyNames), provider);
+	}
+
+	private <T> Stream<T> streamMultiProperty(final Node node, @Nullable final Property property, final PropertyProvider<T> provider) throws RepositoryException {
 		if(property != null) {
 			final Stream.Builder<T> values = Stream.builder();
 			if (property.isMultiple()) {
+				final ValueConverter valueConverter = getValueConverter(node);
 				for (Value value : property.getValues()) {
-					provider.get(getValueConverter(node), value).ifPresent(values::add);
+					provider.get(valueConverter, value).ifPresent(values::add);
 				}
 			}
 			return values.build();
@@ -62,16 +136,253 @@ public class PropertyService {
 		return Stream.empty();
 	}
 
-	private Optional<Property> getProperty(final Node node, final String propertyName) throws RepositoryException {
+	/**
+	 * Primitive variant of {@link #getProperty(Node, String, PropertyProvider)} without boxing and optional allocation.<br>
+	 * Missing properties and values that can't be converted result in the default value.
+	 */
+	long getLong(final Node node, final String propertyName, final long defaultValue) throws RepositoryException {
+		@Nullable
+		final Property property = getPropertyOrNull(node, propertyName);
+		if (property != null) {
+			try {
+				return property.getLong();
+			} catch (ValueFormatException e) {
+				return defaultValue;
+			}
+		}
+		return defaultValue;
+	}
+
+	double getDouble(final Node node, final String propertyName, final double defaultValue) throws RepositoryException {
+		@Nullable
+		final Property property = getPropertyOrNull(node, propertyName);
+		if (property != null) {
+			try {
+				return property.getDouble();
+			} catch (ValueFormatException e) {
+				return defaultValue;
+			}
+		}
+		return defaultValue;
+	}
+
+	boolean getBoolean(final Node node, final String propertyName, final boolean defaultValue) throws RepositoryException {
+		@Nullable
+		final Property property = getPropertyOrNull(node, propertyName);
+		if (property != null) {
+			try {
+				return property.getBoolean();
+			} catch (ValueFormatException e) {
+				return defaultValue;
+			}
+		}
+		return defaultValue;
+	}
+
+	OptionalLong getOptionalLong(final Node node, final String propertyName) throws RepositoryException {
+		@Nullable
+		final Property property = getPropertyOrNull(node, propertyName);
+		if (property != null) {
+			try {
+				return OptionalLong.of(property.getLong());
+			} catch (ValueFormatException e) {
+				return OptionalLong.empty();
+			}
+		}
+		return OptionalLong.empty();
+	}
+
+	OptionalDouble getOptionalDouble(final Node node, final String propertyName) throws RepositoryException {
+		@Nullable
+		final Property property = getPropertyOrNull(node, propertyName);
+		if (property != null) {
+			try {
+				return OptionalDouble.of(property.getDouble());
+			} catch (ValueFormatException e) {
+				return OptionalDouble.empty();
+			}
+		}
+		return OptionalDouble.empty();
+	}
+
+	/**
+	 * Streams the payload straight into {@link javax.jcr.ValueFactory#createBinary(InputStream)} (which closes the stream) without buffering it in memory.
+	 * @param digest optional digest computed while streaming
+	 */
+	Property setBinary(final Node node, final String propertyName, final InputStream stream, @Nullable final BinaryDigest digest) throws RepositoryException {
+		@Nullable
+		final MessageDigest messageDigest = digest != null ? digest.createMessageDigest() : null;
+		invalidate(node);
+		final Binary binary = node.getSession().getValueFactory().createBinary(messageDigest != null ? new DigestInputStream(stream, messageDigest) : stream);
 		try {
-			return Optional.of(node.getProperty(propertyName));
-		} catch (PathNotFoundException e) {
+			final Property property = node.setProperty(propertyName, binary);
+			if (digest != null) {
+				node.setProperty(digest.getPropertyName(), HexFormat.of().formatHex(messageDigest.digest()));
+			}
+			return property;
+		} finally {
+			binary.dispose();
+		}
+	}
+
+	/**
+	 * Passes the binary to the reader without copying it and disposes it afterwards.
+	 */
+	<T> Optional<T> readBinary(final Node node, final String propertyName, final BinaryReader<T> reader) throws RepositoryException, IOException {
+		@Nullable
+		final Property property = getPropertyOrNull(node, propertyName);
+		if (property == null) {
 			return Optional.empty();
 		}
+		final Binary binary = property.getBinary();
+		try {
+			return Optional.ofNullable(reader.read(binary));
+		} finally {
+			binary.dispose();
+		}
+	}
+
+	/**
+	 * @return stream of the binary, which is disposed when the stream is closed
+	 */
+	Optional<InputStream> getBinaryStream(final Node node, final String propertyName) throws RepositoryException {
+		@Nullable
+		final Property property = getPropertyOrNull(node, propertyName);
+		if (property == null) {
+			return Optional.empty();
+		}
+		final Binary binary = property.getBinary();
+		return Optional.of(new DisposingInputStream(binary.getStream(), binary));
+	}
+
+	/**
+	 * Binaries streamed from a {@link FileInputStream} (e.g. jackrabbit {@link org.apache.jackrabbit.value.BinaryImpl} spooled to a temp file) are transferred by the file channel,
+	 * i.e. zero-copy if the target is a file or socket channel. Other streams (incl. the lazily opened ones of the jackrabbit FileDataStore) are copied.
+	 */
+	long transferTo(final Binary binary, final WritableByteChannel target) throws RepositoryException, IOException {
+		try (InputStream stream = binary.getStream()) {
+			if (stream instanceof FileInputStream fileInputStream) {
+				final FileChannel channel = fileInputStream.getChannel();
+				final long size = channel.size();
+				long position = channel.position();
+				while (position < size) {
+					position += channel.transferTo(position, size - position, target);
+				}
+				return size;
+			}
+			return stream.transferTo(Channels.newOutputStream(target));
+		}
+	}
+
+	long transferTo(final Binary binary, final OutputStream outputStream) throws RepositoryException, IOException {
+		try (InputStream stream = binary.getStream()) {
+			return stream.transferTo(outputStream);
+		}
 	}
 
+	/**
+	 * Transfers a range (e.g. of a http range request) by positioned reads, without reading the binary up to the start of the range.
+	 */
+	long transferTo(final Binary binary, final long position, final long length, final OutputStream outputStream) throws RepositoryException, IOException {
+		final byte[] buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(length, 1))];
+		long transferred = 0;
+		while (transferred < length) {
+			final int read = binary.read(buffer, position + transferred);
+			if (read <= 0) {
+				break;
+			}
+			final int write = (int) Math.min(read, length - transferred);
+			outputStream.write(buffer, 0, write);
+			transferred += write;
+		}
+		return transferred;
+	}
+
+	/**
+	 * Reads all requested properties with a single {@link Node#getProperties(String[])} call.
+	 * @param propertyNameMapper maps the requested names to the names of the jcr properties (e.g. localization)
+	 */
+	PropertyBag getPropertyBag(final Node node, final UnaryOperator<String> propertyNameMapper, final String... propertyNames) throws RepositoryException {
+		final Map<String, String> requestedPropertyNames = new HashMap<>();
+		for (String propertyName : propertyNames) {
+			requestedPropertyNames.put(propertyNameMapper.apply(propertyName), propertyName);
+		}
+		final Map<String, Property> properties = new HashMap<>();
+		final PropertyIterator iterator = node.getProperties(requestedPropertyNames.keySet().toArray(new String[0]));
+		while (iterator.hasNext()) {
+			final Property property = iterator.nextProperty();
+			@Nullable
+			final String requestedPropertyName = requestedPropertyNames.get(property.getName());
+			if (requestedPropertyName != null) {
+				properties.put(requestedPropertyName, property);
+			}
+		}
+		return new PropertyBag(getValueConverter(node), properties);
+	}
+
+	@Nullable
+	private Property getFirstPropertyOrNull(final Node node, final List<String> propertyNames) throws RepositoryException {
+		if (propertyNames.size() == 1) {
+			return getPropertyOrNull(node, propertyNames.get(0));
+		}
+		@Nullable
+		Property first = null;
+		int firstIndex = propertyNames.size();
+		final PropertyIterator iterator = node.getProperties(propertyNames.toArray(new String[0]));
+		while (iterator.hasNext()) {
+			final Property property = iterator.nextProperty();
+			final int index = propertyNames.indexOf(property.getName());
+			if (index >= 0 && index < firstIndex) {
+				first = property;
+				firstIndex = index;
+			}
+		}
+		return first;
+	}
+
+	/**
+	 * Probes the existence first, since most optional properties are absent and constructing a PathNotFoundException (incl. stack trace) is far more expensive than the lookup.
+	 */
+	@Nullable
+	private Property getPropertyOrNull(final Node node, final String propertyName) throws RepositoryException {
+		final Optional<NodeMemo> memo = getNodeMemo(node.getSession());
+		if (memo.isPresent()) {
+			return memo.get().getPropertyOrNull(node, propertyName, () -> node.hasProperty(propertyName) ? node.getProperty(propertyName) : null);
+		}
+		return node.hasProperty(propertyName) ? node.getProperty(propertyName) : null;
+	}
+
+	ContentCache getContentCache() {
+		return contentCache;
+	}
+
+	Optional<NodeMemo> getNodeMemo(final Session session) {
+		return nodeMemoProvider.get(session);
+	}
+
+	private void invalidate(final Node node) throws RepositoryException {
+		final Optional<NodeMemo> memo = getNodeMemo(node.getSession());
+		if (memo.isPresent()) {
+			memo.get().invalidate(node);
+		}
+	}
+
+	/**
+	 * Reused within the scope of the memo (e.g. request), otherwise reused per thread and session (see {@link ValueConverter.CachingFactory}).
+	 */
 	private ValueConverter getValueConverter(final Node node) throws RepositoryException {
-		return valueConverterFactory.create(node.getSession().getValueFactory());
+		final Session session = node.getSession();
+		final javax.jcr.ValueFactory valueFactory = session.getValueFactory();
+		final Optional<NodeMemo> memo = getNodeMemo(session);
+		if (memo.isPresent()) {
+			return memo.get().getValueConverter(() -> valueConverterFactory.create(valueFactory));
+		}
+		return cachingValueConverterFactory.create(valueFactory);
+	}
+
+	public interface BinaryReader<T> {
+		@Nullable
+		T read(Binary binary) throws RepositoryException, IOException;
 	}
 
 	public interface PropertyProvider<T> {
@@ -81,4 +392,22 @@ public class PropertyService {
 	public interface ValueFactory<T> {
 		Optional<Value> create(ValueConverter valueConverter, T property) throws RepositoryException;
 	}
+
+	private static class DisposingInputStream extends FilterInputStream {
+		private final Binary binary;
+
+		private DisposingInputStream(final InputStream in, final Binary binary) {
+			super(in);
+			this.binary = binary;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				binary.dispose();
+			}
+		}
+	}
 }
@@ -41,10 +41,85 @@ public class RepositoryExceptionDelegator {
 		}
 	}
 
+	/**
+	 * Like {@link #get(RepositoryProvider)}, but returns the fallback instead of wrapping the result in an optional.
+	 */
+	public <T> T getOrElse(final RepositoryProvider<T> provider, final T fallback) {
+		try {
+			return provider.get();
+		} catch (RepositoryException e) {
+			log(e);
+		} catch (RuntimeRepositoryException e) {
+			log(e);
+		}
+		return fallback;
+	}
+
+	/**
+	 * Primitive variants of {@link #getOrElse(RepositoryProvider, Object)} (without boxing).
+	 */
+	public long getLongOrElse(final RepositoryLongProvider provider, final long fallback) {
+		try {
+			return provider.get();
+		} catch (RepositoryException e) {
+			log(e);
+		} catch (RuntimeRepositoryException e) {
+			log(e);
+		}
+		return fallback;
+	}
+
+	public double getDoubleOrElse(final RepositoryDoubleProvider provider, final double fallback) {
+		try {
+			return provider.get();
+		} catch (RepositoryException e) {
+			log(e);
+		} catch (RuntimeRepositoryException e) {
+			log(e);
+		}
+		return fallback;
+	}
+
+	public boolean getBooleanOrElse(final RepositoryBooleanProvider provider, final boolean fallback) {
+		try {
+			return provider.get();
+		} catch (RepositoryException e) {
+			log(e);
+		} catch (RuntimeRepositoryException e) {
+			log(e);
+		}
+		return fallback;
+	}
+
+	void log(final RuntimeRepositoryException e) {
+		log(e.getCause() instanceof RepositoryException cause ? cause : e);
+	}
+
+	/**
+	 * Logs unexpected exceptions, missing items are expected.
+	 */
+	void log(final Exception e) {
+		if (!(e instanceof PathNotFoundException) && !(e instanceof ItemNotFoundException)) {
+			LOG.error("Failed to apply node function!", e);
+		}
+	}
+
 	public interface RepositoryProvider<T> {
 		T get() throws RepositoryException;
 	}
 
+	public interface RepositoryLongProvider {
+		long get() throws RepositoryException;
+	}
+
+	public interface RepositoryDoubleProvider {
+		double get() throws RepositoryException;
+	}
+
+	public interface RepositoryBooleanProvider {
+		boolean get() throws RepositoryException;
+	}
+
 	public interface RepositoryRunnable {
 		void run() throws RepositoryException;
 	}
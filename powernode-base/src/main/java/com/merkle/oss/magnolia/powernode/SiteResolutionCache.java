@@ -0,0 +1,111 @@
+package com.merkle.oss.magnolia.powernode;
+
+import info.magnolia.cms.beans.config.URI2RepositoryMapping;
+import info.magnolia.module.site.Site;
+import info.magnolia.module.site.SiteManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.Nullable;
+import javax.jcr.Node;
+
+/**
+ * Caches {@link SiteManager#getAssignedSite(Node)} by workspace and the longest matching handle prefix of the site mappings (at least the first path segment).<br>
+ * All nodes below the same prefix match the same mappings, so the site manager is only asked once per prefix.
+ */
+public class SiteResolutionCache extends RepositoryExceptionDelegator {
+	private final SiteManager siteManager;
+	@Nullable
+	private volatile HandlePrefixes handlePrefixes;
+	/**
+	 * workspace -> prefix -> site
+	 */
+	private final Map<String, Map<String, Site>> sites = new ConcurrentHashMap<>();
+	/**
+	 * Incremented by every invalidation, sites and prefixes resolved meanwhile aren't cached (they may be stale).
+	 */
+	private final AtomicLong generation = new AtomicLong();
+
+	public SiteResolutionCache(final SiteManager siteManager) {
+		this.siteManager = siteManager;
+	}
+
+	@Nullable
+	public Site getAssignedSite(final Node node) {
+		return get(() -> {
+			final long generation = this.generation.get();
+			final String workspace = node.getSession().getWorkspace().getName();
+			final String prefix = getPrefix(generation, workspace, node.getPath());
+			final Map<String, Site> workspaceSites = sites.computeIfAbsent(workspace, key -> new ConcurrentHashMap<>());
+			@Nullable
+			final Site cached = workspaceSites.get(prefix);
+			if (cached != null) {
+				return cached;
+			}
+			@Nullable
+			final Site site = siteManager.getAssignedSite(node);
+			if (site != null) {
+				workspaceSites.compute(prefix, (key, current) -> generation == this.generation.get() ? site : current);
+			}
+			return site;
+		}).orElseGet(() -> siteManager.getAssignedSite(node));
+	}
+
+	/**
+	 * Must be called if the site configuration changes.
+	 */
+	public void invalidate() {
+		generation.incrementAndGet();
+		sites.clear();
+	}
+
+	private String getPrefix(final long generation, final String workspace, final String path) {
+		final Set<String> prefixes = getHandlePrefixes(generation).getOrDefault(workspace, Set.of());
+		String candidate = path;
+		while (candidate.lastIndexOf('/') > 0 && !prefixes.contains(candidate)) {
+			candidate = candidate.substring(0, candidate.lastIndexOf('/'));
+		}
+		return candidate;
+	}
+
+	private Map<String, Set<String>> getHandlePrefixes(final long generation) {
+		@Nullable
+		HandlePrefixes handlePrefixes = this.handlePrefixes;
+		if (handlePrefixes == null || handlePrefixes.generation != generation) {
+			final Map<String, Set<String>> prefixes = new HashMap<>();
+			for (Site site : siteManager.getSites()) {
+				for (URI2RepositoryMapping mapping : site.getMappings().values()) {
+					prefixes.computeIfAbsent(mapping.getRepository(), key -> new HashSet<>()).add(removeTrailingSlash(mapping.getHandlePrefix()));
+				}
+			}
+			handlePrefixes = new HandlePrefixes(generation, prefixes);
+			this.handlePrefixes = handlePrefixes;
+		}
+		return handlePrefixes.prefixes;
+	}
+
+	private String removeTrailingSlash(final String handlePrefix) {
+		return handlePrefix.length() > 1 && handlePrefix.endsWith("/") ? handlePrefix.substring(0, handlePrefix.length() - 1) : handlePrefix;
+	}
+
+	/**
+	 * Prefixes resolved by an outdated generation are ignored, even if they're written after the invalidation.
+	 */
+	private static class HandlePrefixes {
+		private final long generation;
+		/**
+		 * workspace -> handle prefixes
+		 */
+		private final Map<String, Set<String>> prefixes;
+
+		private HandlePrefixes(final long generation, final Map<String, Set<String>> prefixes) {
+			this.generation = generation;
+			this.prefixes = prefixes;
+		}
+	}
+}
@@ -5,15 +5,26 @@ import org.apache.jackrabbit.value.ValueFactoryImpl;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Provider;
 import javax.jcr.*;
+import java.lang.ref.WeakReference;
 import java.math.BigDecimal;
 import java.time.*;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.Optional;
+import java.util.TimeZone;
 
 public class ValueConverter {
 	private final ValueFactory factory;
 	private final Provider<ZoneId> zoneIdProvider;
+	/**
+	 * Shared by {@link CachingFactory}, i.e. possibly used by subsequent requests (of other users) on the same thread.
+	 */
+	private boolean shared;
+	@Nullable
+	private ZoneId zoneId;
+	@Nullable
+	private TimeZone timeZone;
 
 	public ValueConverter(final ValueFactory factory, final Provider<ZoneId> zoneIdProvider) {
 		this.factory = factory;
@@ -45,41 +56,23 @@ public class ValueConverter {
 	}
 
 	public Optional<Value> toValue(@Nullable final Date value) {
-		return Optional.ofNullable(value)
-				.map(date -> {
-					final Calendar calendar = Calendar.getInstance();
-					calendar.setTime(value);
-					return calendar;
-				})
-				.map(factory::createValue);
+		return Optional.ofNullable(value).map(date -> createDateValue(date.getTime()));
 	}
 
 	public Optional<Value> toValue(@Nullable final Instant value) {
-		return Optional.ofNullable(value)
-				.map(date -> {
-					final Calendar calendar = Calendar.getInstance();
-					calendar.setTimeInMillis(value.toEpochMilli());
-					return calendar;
-				})
-				.map(factory::createValue);
+		return Optional.ofNullable(value).map(instant -> createDateValue(instant.toEpochMilli()));
 	}
 
 	public Optional<Value> toValue(@Nullable final LocalDate value) {
-		return Optional.ofNullable(value)
-				.map(localDate -> localDate.atStartOfDay(zoneIdProvider.get()))
-				.flatMap(this::toValue);
+		return Optional.ofNullable(value).map(localDate -> createDateValue(localDate.atStartOfDay(getZoneId()).toInstant().toEpochMilli()));
 	}
 
 	public Optional<Value> toValue(@Nullable final LocalDateTime value) {
-		return Optional.ofNullable(value)
-				.map(localDateTime -> localDateTime.atZone(zoneIdProvider.get()))
-				.flatMap(this::toValue);
+		return Optional.ofNullable(value).map(localDateTime -> createDateValue(localDateTime.atZone(getZoneId()).toInstant().toEpochMilli()));
 	}
 
 	public Optional<Value> toValue(@Nullable final ZonedDateTime value) {
-		return Optional.ofNullable(value)
-				.map(ZonedDateTime::toInstant)
-				.flatMap(this::toValue);
+		return Optional.ofNullable(value).map(zonedDateTime -> createDateValue(zonedDateTime.toInstant().toEpochMilli()));
 	}
 
 	public Optional<Value> toValue(@Nullable final Binary value) {
@@ -112,33 +105,71 @@ public class ValueConverter {
 	}
 
 	public Optional<Date> getDate(final Value value) throws RepositoryException {
-		return getPropertyOptional(() -> value.getDate().getTime());
+		return getPropertyOptional(() -> new Date(getEpochMilli(value)));
 	}
 
 	public Optional<Instant> getInstant(final Value value) throws RepositoryException {
-		return getPropertyOptional(() ->
-				Instant.ofEpochMilli(value.getDate().getTimeInMillis())
-		);
+		return getPropertyOptional(() -> Instant.ofEpochMilli(getEpochMilli(value)));
 	}
 
 	public Optional<LocalDate> getLocalDate(final Value value) throws RepositoryException {
-		return getInstant(value).map(instant -> LocalDate.ofInstant(instant, zoneIdProvider.get()));
+		return getPropertyOptional(() -> LocalDate.ofInstant(Instant.ofEpochMilli(getEpochMilli(value)), getZoneId()));
 	}
 
 	public Optional<LocalDateTime> getLocalDateTime(final Value value) throws RepositoryException {
-		return getInstant(value).map(instant -> LocalDateTime.ofInstant(instant, zoneIdProvider.get()));
+		return getPropertyOptional(() -> LocalDateTime.ofInstant(Instant.ofEpochMilli(getEpochMilli(value)), getZoneId()));
 	}
 
 	public Optional<ZonedDateTime> getZonedDateTime(final Value value) throws RepositoryException {
-		return getInstant(value).map(instant -> ZonedDateTime.ofInstant(instant, zoneIdProvider.get()));
+		return getPropertyOptional(() -> ZonedDateTime.ofInstant(Instant.ofEpochMilli(getEpochMilli(value)), getZoneId()));
 	}
 
+	/**
+	 * Copies the payload, use {@link NodeService#readBinary(javax.jcr.Node, String, PropertyService.BinaryReader)} and its variants to stream it.
+	 */
 	public Optional<Binary> getBinary(final Value value) throws RepositoryException {
 		return getPropertyOptional(() ->
 				ValueFactoryImpl.getInstance().createBinary(value.getBinary().getStream())
 		);
 	}
 
+	/**
+	 * Jcr only exchanges dates as calendar, so this is the single place a calendar is created (instead of {@link Calendar#getInstance()}, which looks up the default zone and locale per value).
+	 */
+	private Value createDateValue(final long epochMilli) {
+		final Calendar calendar = new GregorianCalendar(getTimeZone());
+		calendar.setTimeInMillis(epochMilli);
+		return factory.createValue(calendar);
+	}
+
+	private long getEpochMilli(final Value value) throws RepositoryException {
+		return value.getDate().getTimeInMillis();
+	}
+
+	/**
+	 * Resolved once per converter (e.g. per request, see {@link NodeMemo}) instead of once per value.<br>
+	 * The zone is user specific, so converters shared by {@link CachingFactory} resolve it per conversion.
+	 */
+	private ZoneId getZoneId() {
+		if (shared) {
+			return zoneIdProvider.get();
+		}
+		if (zoneId == null) {
+			zoneId = zoneIdProvider.get();
+		}
+		return zoneId;
+	}
+
+	/**
+	 * The jvm default, which isn't user specific.
+	 */
+	private TimeZone getTimeZone() {
+		if (timeZone == null) {
+			timeZone = TimeZone.getDefault();
+		}
+		return timeZone;
+	}
+
 	private <T> Optional<T> getPropertyOptional(final PathNotFoundProvider<T> provider) throws RepositoryException {
 		try {
 			return Optional.ofNullable(provider.get());
@@ -154,4 +185,30 @@ public class ValueConverter {
 	public interface Factory {
 		ValueConverter create(final ValueFactory valueFactory);
 	}
+
+	/**
+	 * Reuses the converter as long as the same value factory (i.e. session) is accessed by a thread.<br>
+	 * Only the last converter per thread is kept and it's weakly referenced, so it never retains a closed session.
+	 */
+	public static class CachingFactory implements Factory {
+		private final Factory factory;
+		private final ThreadLocal<WeakReference<ValueConverter>> lastValueConverter = ThreadLocal.withInitial(() -> new WeakReference<>(null));
+
+		public CachingFactory(final Factory factory) {
+			this.factory = factory;
+		}
+
+		@Override
+		public ValueConverter create(final ValueFactory valueFactory) {
+			@Nullable
+			final ValueConverter cached = lastValueConverter.get().get();
+			if (cached != null && cached.factory == valueFactory) {
+				return cached;
+			}
+			final ValueConverter valueConverter = factory.create(valueFactory);
+			valueConverter.shared = true;
+			lastValueConverter.set(new WeakReference<>(valueConverter));
+			return valueConverter;
+		}
+	}
 }
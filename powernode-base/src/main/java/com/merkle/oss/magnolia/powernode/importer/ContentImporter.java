@@ -0,0 +1,228 @@
+package com.merkle.oss.magnolia.powernode.importer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import javax.jcr.Node;
+import javax.jcr.RepositoryException;
+
+import com.merkle.oss.magnolia.powernode.BulkWriter;
+import com.merkle.oss.magnolia.powernode.NodeService;
+import com.merkle.oss.magnolia.powernode.PropertyService;
+
+/**
+ * Imports records into child nodes of a parent node.<br>
+ * The input is parsed on the executor and handed to the writing (calling) thread through a bounded queue, so at most the queue capacity plus one
+ * {@link BulkWriter} batch of records are held in memory. Nodes are created with {@link NodeService#getOrAddChild(Node, String, String)},
+ * hence an import can be repeated to update the nodes.
+ */
+public class ContentImporter {
+	private static final Item END = new Item(null, null);
+	private static final long PARSER_CHECK_INTERVAL_MILLIS = 1000;
+	private final NodeService nodeService;
+	private final Node parent;
+	@Nullable
+	private final String primaryNodeTypeName;
+	private final Function<ImportRecord, String> relativePath;
+	private final List<PropertyMapping> properties;
+	private final int queueCapacity;
+	private final BulkWriter.Builder writerBuilder;
+	private final ExecutorService executor;
+
+	private ContentImporter(final NodeService nodeService, final Builder builder) {
+		this.nodeService = nodeService;
+		this.parent = builder.parent;
+		this.primaryNodeTypeName = builder.primaryNodeTypeName;
+		this.relativePath = builder.relativePath;
+		this.properties = List.copyOf(builder.properties);
+		this.queueCapacity = builder.queueCapacity;
+		this.writerBuilder = builder.writerConfigurer.apply(builder.writerFactory.builder(nodeService.getOrThrow(builder.parent::getSession)));
+		this.executor = builder.executor;
+	}
+
+	/**
+	 * Saves all records or, if the input can't be parsed or written, all batches before the failing record and discards the rest.
+	 * The reader is not closed.
+	 *
+	 * @return number of imported records
+	 */
+	public long importRecords(final RecordReader reader) {
+		final BlockingQueue<Item> queue = new ArrayBlockingQueue<>(queueCapacity);
+		final Future<?> parser = executor.submit(() -> parse(reader, queue));
+		final BulkWriter writer = writerBuilder.build();
+		long records = 0;
+		try {
+			for (Item item = take(queue, parser); item != END; item = take(queue, parser)) {
+				if (item.failure != null) {
+					throw new UncheckedIOException("Failed to read record " + (records + 1), item.failure);
+				}
+				final ImportRecord record = item.record;
+				writer.write(1, record.getSize(), session -> write(record));
+				records++;
+			}
+			writer.flush();
+			return records;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			writer.discard();
+			throw new IllegalStateException("Interrupted while importing record " + (records + 1), e);
+		} catch (RuntimeException e) {
+			writer.discard();
+			throw e;
+		} finally {
+			parser.cancel(true);
+		}
+	}
+
+	/**
+	 * The parser always enqueues a terminal item, unless it fails to do so (e.g. out of memory), which is detected once it's done.
+	 */
+	private Item take(final BlockingQueue<Item> queue, final Future<?> parser) throws InterruptedException {
+		while (true) {
+			@Nullable
+			final Item item = queue.poll(PARSER_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+			if (item != null) {
+				return item;
+			}
+			if (parser.isDone()) {
+				@Nullable
+				final Item remaining = queue.poll();
+				return remaining != null ? remaining : new Item(null, new IOException("Reader terminated unexpectedly"));
+			}
+		}
+	}
+
+	private void write(final ImportRecord record) throws RepositoryException {
+		final Node node = nodeService.getOrAddChild(parent, primaryNodeTypeName, relativePath.apply(record));
+		for (PropertyMapping property : properties) {
+			property.write(nodeService, node, record);
+		}
+	}
+
+	private static void parse(final RecordReader reader, final BlockingQueue<Item> queue) {
+		try {
+			try {
+				for (Optional<ImportRecord> record = reader.read(); record.isPresent(); record = reader.read()) {
+					queue.put(new Item(record.get(), null));
+				}
+			} catch (Throwable e) {
+				// incl. errors (e.g. out of memory on a huge line), the writer must not wait for further records
+				queue.put(new Item(null, e instanceof IOException ? (IOException) e : new IOException(e)));
+				return;
+			}
+			queue.put(END);
+		} catch (InterruptedException e) {
+			// cancelled by the writer
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class Item {
+		@Nullable
+		private final ImportRecord record;
+		@Nullable
+		private final IOException failure;
+
+		private Item(@Nullable final ImportRecord record, @Nullable final IOException failure) {
+			this.record = record;
+			this.failure = failure;
+		}
+	}
+
+	private interface PropertyMapping {
+		void write(NodeService nodeService, Node node, ImportRecord record) throws RepositoryException;
+	}
+
+	public static class Builder {
+		private final BulkWriter.Factory writerFactory;
+		private final NodeService nodeService;
+		private final Node parent;
+		@Nullable
+		private final String primaryNodeTypeName;
+		private final Function<ImportRecord, String> relativePath;
+		private final ExecutorService executor;
+		private final List<PropertyMapping> properties = new ArrayList<>();
+		private int queueCapacity = 1000;
+		private UnaryOperator<BulkWriter.Builder> writerConfigurer = UnaryOperator.identity();
+
+		private Builder(
+				final BulkWriter.Factory writerFactory,
+				final NodeService nodeService,
+				final Node parent,
+				@Nullable final String primaryNodeTypeName,
+				final Function<ImportRecord, String> relativePath,
+				final ExecutorService executor
+		) {
+			this.writerFactory = writerFactory;
+			this.nodeService = nodeService;
+			this.parent = parent;
+			this.primaryNodeTypeName = primaryNodeTypeName;
+			this.relativePath = relativePath;
+			this.executor = executor;
+		}
+
+		/**
+		 * @param value extracts the value, empty removes the property
+		 */
+		public <T> Builder withProperty(final String propertyName, final Function<ImportRecord, Optional<T>> value, final PropertyService.ValueFactory<T> factory) {
+			properties.add((nodeService, node, record) -> nodeService.setProperty(node, propertyName, value.apply(record).orElse(null), factory));
+			return this;
+		}
+
+		public <T> Builder withMultiProperty(final String propertyName, final Function<ImportRecord, Iterable<T>> values, final PropertyService.ValueFactory<T> factory) {
+			properties.add((nodeService, node, record) -> nodeService.setMultiProperty(node, propertyName, values.apply(record), factory));
+			return this;
+		}
+
+		/**
+		 * @param queueCapacity number of parsed records waiting to be written (default: 1000)
+		 */
+		public Builder withQueueCapacity(final int queueCapacity) {
+			this.queueCapacity = queueCapacity;
+			return this;
+		}
+
+		/**
+		 * Configures batch size, retries and progress of the writer.
+		 */
+		public Builder withWriter(final UnaryOperator<BulkWriter.Builder> writerConfigurer) {
+			this.writerConfigurer = writerConfigurer;
+			return this;
+		}
+
+		public ContentImporter build() {
+			return new ContentImporter(nodeService, this);
+		}
+	}
+
+	public static class Factory {
+		private final NodeService nodeService;
+		private final BulkWriter.Factory writerFactory;
+
+		@Inject
+		public Factory(final NodeService nodeService, final BulkWriter.Factory writerFactory) {
+			this.nodeService = nodeService;
+			this.writerFactory = writerFactory;
+		}
+
+		/**
+		 * @param relativePath maps a record to the path of its node below the parent (intermediate nodes are created with the same node type)
+		 * @param executor parses the input
+		 */
+		public Builder builder(final Node parent, @Nullable final String primaryNodeTypeName, final Function<ImportRecord, String> relativePath, final ExecutorService executor) {
+			return new Builder(writerFactory, nodeService, parent, primaryNodeTypeName, relativePath, executor);
+		}
+	}
+}
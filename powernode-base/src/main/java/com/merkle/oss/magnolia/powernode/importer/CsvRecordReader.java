@@ -0,0 +1,123 @@
+package com.merkle.oss.magnolia.powernode.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Reads csv (<a href="https://www.rfc-editor.org/rfc/rfc4180">RFC 4180</a>) with a header row, which names the fields.<br>
+ * Quoted fields may contain delimiters, line breaks and doubled quotes. Empty fields are absent.
+ */
+public class CsvRecordReader implements RecordReader {
+	private static final int NO_CHAR = -2;
+	private final Reader reader;
+	private final char delimiter;
+	private final StringBuilder field = new StringBuilder();
+	@Nullable
+	private List<String> header;
+	private long number;
+	private long size;
+	private int next = NO_CHAR;
+
+	public CsvRecordReader(final Reader reader) {
+		this(reader, ',');
+	}
+
+	public CsvRecordReader(final Reader reader, final char delimiter) {
+		this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+		this.delimiter = delimiter;
+	}
+
+	@Override
+	public Optional<ImportRecord> read() throws IOException {
+		if (header == null) {
+			header = readRow().orElseGet(List::of);
+		}
+		@Nullable
+		List<String> row;
+		do {
+			size = 0;
+			row = readRow().orElse(null);
+		} while (row != null && row.size() == 1 && row.get(0).isEmpty());
+		if (row == null) {
+			return Optional.empty();
+		}
+		if (row.size() > header.size()) {
+			throw new IOException("Record " + (number + 1) + " has " + row.size() + " fields, but header only " + header.size());
+		}
+		final Map<String, Object> fields = new LinkedHashMap<>();
+		for (int i = 0; i < row.size(); i++) {
+			if (!row.get(i).isEmpty()) {
+				fields.put(header.get(i), row.get(i));
+			}
+		}
+		return Optional.of(new ImportRecord(++number, size, fields));
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private Optional<List<String>> readRow() throws IOException {
+		int c = readChar();
+		if (c == -1) {
+			return Optional.empty();
+		}
+		final List<String> row = new ArrayList<>();
+		boolean quoted = false;
+		field.setLength(0);
+		while (true) {
+			if (quoted) {
+				if (c == -1) {
+					throw new IOException("Unterminated quoted field in record " + (number + 1));
+				}
+				if (c == '"') {
+					c = readChar();
+					if (c != '"') {
+						quoted = false;
+						continue;
+					}
+				}
+				field.append((char) c);
+			} else if (c == '"' && field.length() == 0) {
+				quoted = true;
+			} else if (c == delimiter) {
+				row.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\r' || c == '\n' || c == -1) {
+				if (c == '\r' && peekChar() == '\n') {
+					readChar();
+				}
+				row.add(field.toString());
+				return Optional.of(row);
+			} else {
+				field.append((char) c);
+			}
+			c = readChar();
+		}
+	}
+
+	private int readChar() throws IOException {
+		final int c = next != NO_CHAR ? next : reader.read();
+		next = NO_CHAR;
+		if (c != -1) {
+			size++;
+		}
+		return c;
+	}
+
+	private int peekChar() throws IOException {
+		if (next == NO_CHAR) {
+			next = reader.read();
+		}
+		return next;
+	}
+}
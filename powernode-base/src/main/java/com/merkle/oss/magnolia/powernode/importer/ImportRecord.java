@@ -0,0 +1,76 @@
+package com.merkle.oss.magnolia.powernode.importer;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of a single imported record.<br>
+ * Values are strings (csv) or the json types string, {@link Long}, {@link BigDecimal}, {@link Boolean}, {@link List} and {@link Map}. Absent and null fields are empty.
+ */
+public class ImportRecord {
+	private final long number;
+	private final long size;
+	private final Map<String, Object> fields;
+
+	public ImportRecord(final long number, final long size, final Map<String, Object> fields) {
+		this.number = number;
+		this.size = size;
+		this.fields = fields;
+	}
+
+	/**
+	 * @return position of the record within the input (starting at 1)
+	 */
+	public long getNumber() {
+		return number;
+	}
+
+	/**
+	 * @return number of characters the record occupied in the input
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	public Map<String, Object> getFields() {
+		return fields;
+	}
+
+	public Optional<Object> get(final String name) {
+		return Optional.ofNullable(fields.get(name));
+	}
+
+	public Optional<String> getString(final String name) {
+		return get(name).map(String::valueOf);
+	}
+
+	public Optional<Long> getLong(final String name) {
+		return get(name).map(value -> value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString()));
+	}
+
+	public Optional<BigDecimal> getDecimal(final String name) {
+		return get(name).map(value -> value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString()));
+	}
+
+	public Optional<Boolean> getBoolean(final String name) {
+		return get(name).map(value -> value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(value.toString()));
+	}
+
+	/**
+	 * @return elements of a json array, a single value as singleton list.
+	 */
+	public List<String> getStrings(final String name) {
+		return get(name)
+				.map(value -> value instanceof List ? ((List<?>) value).stream().filter(Objects::nonNull).map(String::valueOf).collect(Collectors.toList()) : List.of(String.valueOf(value)))
+				.orElseGet(List::of);
+	}
+
+	@Override
+	public String toString() {
+		return "ImportRecord{number=" + number + ", fields=" + fields + '}';
+	}
+}
@@ -0,0 +1,258 @@
+package com.merkle.oss.magnolia.powernode.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Reads one json object per line (<a href="https://jsonlines.org">JSON Lines</a>), blank lines are skipped.<br>
+ * Objects and arrays may be nested up to 512 levels.
+ */
+public class JsonLinesRecordReader implements RecordReader {
+	private final BufferedReader reader;
+	private long number;
+	private long lineNumber;
+
+	public JsonLinesRecordReader(final Reader reader) {
+		this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+	}
+
+	@Override
+	public Optional<ImportRecord> read() throws IOException {
+		@Nullable
+		String line;
+		do {
+			line = reader.readLine();
+			lineNumber++;
+		} while (line != null && line.isBlank());
+		if (line == null) {
+			return Optional.empty();
+		}
+		final Parser parser = new Parser(line, lineNumber);
+		final Object value = parser.parseDocument();
+		if (!(value instanceof Map)) {
+			throw new IOException("Expected json object in line " + lineNumber);
+		}
+		//noinspection unchecked
+		return Optional.of(new ImportRecord(++number, line.length() + 1, (Map<String, Object>) value));
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private static class Parser {
+		private static final int MAX_DEPTH = 512;
+		private final String json;
+		private final long lineNumber;
+		private int position;
+		private int depth;
+
+		private Parser(final String json, final long lineNumber) {
+			this.json = json;
+			this.lineNumber = lineNumber;
+		}
+
+		private Object parseDocument() throws IOException {
+			final Object value = parseValue();
+			skipWhitespace();
+			if (position < json.length()) {
+				throw error("Unexpected trailing characters");
+			}
+			return value;
+		}
+
+		@Nullable
+		private Object parseValue() throws IOException {
+			skipWhitespace();
+			if (position >= json.length()) {
+				throw error("Unexpected end of line");
+			}
+			final char c = json.charAt(position);
+			switch (c) {
+				case '{':
+					return parseObject();
+				case '[':
+					return parseArray();
+				case '"':
+					return parseString();
+				case 't':
+					return parseLiteral("true", Boolean.TRUE);
+				case 'f':
+					return parseLiteral("false", Boolean.FALSE);
+				case 'n':
+					return parseLiteral("null", null);
+				default:
+					return parseNumber();
+			}
+		}
+
+		private Map<String, Object> parseObject() throws IOException {
+			final Map<String, Object> object = new LinkedHashMap<>();
+			enter();
+			skipWhitespace();
+			if (consume('}')) {
+				depth--;
+				return object;
+			}
+			do {
+				skipWhitespace();
+				if (position >= json.length() || json.charAt(position) != '"') {
+					throw error("Expected field name");
+				}
+				final String name = parseString();
+				skipWhitespace();
+				expect(':');
+				object.put(name, parseValue());
+				skipWhitespace();
+			} while (consume(','));
+			expect('}');
+			depth--;
+			return object;
+		}
+
+		private List<Object> parseArray() throws IOException {
+			final List<Object> array = new ArrayList<>();
+			enter();
+			skipWhitespace();
+			if (consume(']')) {
+				depth--;
+				return array;
+			}
+			do {
+				array.add(parseValue());
+				skipWhitespace();
+			} while (consume(','));
+			expect(']');
+			depth--;
+			return array;
+		}
+
+		private String parseString() throws IOException {
+			position++;
+			final StringBuilder builder = new StringBuilder();
+			while (position < json.length()) {
+				final char c = json.charAt(position++);
+				if (c == '"') {
+					return builder.toString();
+				}
+				if (c != '\\') {
+					builder.append(c);
+					continue;
+				}
+				if (position >= json.length()) {
+					break;
+				}
+				final char escaped = json.charAt(position++);
+				switch (escaped) {
+					case 'b':
+						builder.append('\b');
+						break;
+					case 'f':
+						builder.append('\f');
+						break;
+					case 'n':
+						builder.append('\n');
+						break;
+					case 'r':
+						builder.append('\r');
+						break;
+					case 't':
+						builder.append('\t');
+						break;
+					case 'u':
+						builder.append(parseUnicodeEscape());
+						break;
+					case '"':
+					case '\\':
+					case '/':
+						builder.append(escaped);
+						break;
+					default:
+						position--;
+						throw error("Invalid escape");
+				}
+			}
+			throw error("Unterminated string");
+		}
+
+		private char parseUnicodeEscape() throws IOException {
+			int code = 0;
+			for (int i = 0; i < 4; i++) {
+				final int digit = position < json.length() ? Character.digit(json.charAt(position), 16) : -1;
+				if (digit < 0) {
+					throw error("Invalid unicode escape");
+				}
+				code = code * 16 + digit;
+				position++;
+			}
+			return (char) code;
+		}
+
+		@Nullable
+		private Object parseLiteral(final String literal, @Nullable final Object value) throws IOException {
+			if (!json.startsWith(literal, position)) {
+				throw error("Unexpected literal");
+			}
+			position += literal.length();
+			return value;
+		}
+
+		private Object parseNumber() throws IOException {
+			final int start = position;
+			while (position < json.length() && "+-0123456789.eE".indexOf(json.charAt(position)) >= 0) {
+				position++;
+			}
+			final String number = json.substring(start, position);
+			try {
+				final BigDecimal decimal = new BigDecimal(number);
+				if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0 && decimal.unscaledValue().bitLength() < 64) {
+					return decimal.longValue();
+				}
+				return decimal;
+			} catch (NumberFormatException e) {
+				throw error("Unexpected character");
+			}
+		}
+
+		private void enter() throws IOException {
+			if (++depth > MAX_DEPTH) {
+				throw error("Maximum nesting depth of " + MAX_DEPTH + " exceeded");
+			}
+			position++;
+		}
+
+		private boolean consume(final char c) {
+			if (position < json.length() && json.charAt(position) == c) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		private void expect(final char c) throws IOException {
+			if (!consume(c)) {
+				throw error("Expected '" + c + "'");
+			}
+		}
+
+		private void skipWhitespace() {
+			while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+				position++;
+			}
+		}
+
+		private IOException error(final String message) {
+			return new IOException(message + " at line " + lineNumber + ", column " + (position + 1));
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.merkle.oss.magnolia.powernode.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Reads records incrementally, only the current record is held in memory.
+ */
+public interface RecordReader extends Closeable {
+	/**
+	 * @return the next record or empty at the end of the input.
+	 */
+	Optional<ImportRecord> read() throws IOException;
+}
@@ -0,0 +1,75 @@
+package com.merkle.oss.magnolia.powernode.magnolia;
+
+import info.magnolia.observation.WorkspaceEventListenerRegistration;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import javax.jcr.RepositoryException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.merkle.oss.magnolia.powernode.ContentCache;
+
+/**
+ * Observes each workspace (without delay) on its first use and invalidates the affected entries on every change.<br>
+ * Workspaces that can't be observed aren't cached. The observations are unregistered once the module stops, see {@link MagnoliaPowerNodeModule}.
+ */
+@Singleton
+public class MagnoliaContentCache extends ContentCache {
+	private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+	/**
+	 * workspace -> observation (empty if the workspace can't be observed)
+	 */
+	private final Map<String, Optional<WorkspaceEventListenerRegistration.Handle>> observations = new ConcurrentHashMap<>();
+	private volatile boolean stopped = false;
+
+	@Inject
+	public MagnoliaContentCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	protected MagnoliaContentCache(final int maximumSize) {
+		super(maximumSize);
+	}
+
+	@Override
+	protected boolean isCacheable(final String workspace) {
+		return super.isCacheable(workspace) && !stopped && observations.computeIfAbsent(workspace, this::observe).isPresent();
+	}
+
+	/**
+	 * Unregisters the observations and stops caching (nothing invalidates the cache anymore).
+	 */
+	public void stop() {
+		stopped = true;
+		observations.keySet().forEach(workspace -> observations.remove(workspace).ifPresent(handle -> {
+			try {
+				handle.unregister();
+			} catch (RepositoryException e) {
+				LOG.warn("Failed to unregister observation of workspace " + workspace, e);
+			}
+		}));
+		invalidate();
+	}
+
+	private Optional<WorkspaceEventListenerRegistration.Handle> observe(final String workspace) {
+		if (stopped) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(WorkspaceEventListenerRegistration.observe(workspace, "/", events -> invalidate(workspace, events))
+					.withSubNodes(true)
+					.register()
+			);
+		} catch (RepositoryException e) {
+			LOG.error("Failed to observe workspace " + workspace + ", content won't be cached", e);
+			return Optional.empty();
+		}
+	}
+}
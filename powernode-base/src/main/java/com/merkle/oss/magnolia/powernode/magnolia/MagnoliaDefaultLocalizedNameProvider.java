@@ -12,10 +12,18 @@ import jakarta.inject.Inject;
 import javax.jcr.Node;
 
 import com.merkle.oss.magnolia.powernode.AbstractLocalizedNameProvider;
+import com.merkle.oss.magnolia.powernode.SiteResolutionCache;
 
 public class MagnoliaDefaultLocalizedNameProvider extends AbstractLocalizedNameProvider {
 
 	@Inject
+	public MagnoliaDefaultLocalizedNameProvider(
+			final SiteResolutionCache siteResolutionCache,
+			final I18nContentSupport i18nContentSupport
+	) {
+		super(siteResolutionCache, i18nContentSupport);
+	}
+
 	public MagnoliaDefaultLocalizedNameProvider(
 			final SiteManager siteManager,
 			final I18nContentSupport i18nContentSupport
@@ -34,6 +42,6 @@ public class MagnoliaDefaultLocalizedNameProvider extends AbstractLocalizedNameP
 
 	@Override
 	protected String appendLocaleSuffix(String propertyName, Locale locale) {
-		return String.format("%s_%s", propertyName, locale.toString());
+		return propertyName + '_' + locale.toString();
 	}
 }
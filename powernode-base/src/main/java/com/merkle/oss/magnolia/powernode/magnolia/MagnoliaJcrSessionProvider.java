@@ -3,11 +3,13 @@ package com.merkle.oss.magnolia.powernode.magnolia;
 import com.merkle.oss.magnolia.powernode.JcrSessionProvider;
 import info.magnolia.context.MgnlContext;
 import info.magnolia.context.SystemContext;
+import info.magnolia.observation.WorkspaceEventListenerRegistration;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import javax.jcr.RepositoryException;
 import javax.jcr.Session;
+import javax.jcr.observation.EventListener;
 
 public class MagnoliaJcrSessionProvider implements JcrSessionProvider {
 	private final Provider<SystemContext> systemContextProvider;
@@ -26,4 +28,20 @@ public class MagnoliaJcrSessionProvider implements JcrSessionProvider {
 	public Session getSystemSession(final String workspace) throws RepositoryException {
 		return systemContextProvider.get().getJCRSession(workspace);
 	}
+
+	@Override
+	public void releaseSystemSessions() {
+		systemContextProvider.get().release();
+	}
+
+	/**
+	 * Registered by magnolia, i.e. not bound to the (released) system session of the current thread.
+	 */
+	@Override
+	public EventListenerRegistration addEventListener(final String workspace, final String path, final boolean subNodes, final int eventTypes, final EventListener listener) throws RepositoryException {
+		return WorkspaceEventListenerRegistration.observe(workspace, path, listener)
+				.withSubNodes(subNodes)
+				.withEventTypesMask(eventTypes)
+				.register()::unregister;
+	}
 }
@@ -13,10 +13,18 @@ import jakarta.inject.Inject;
 import javax.jcr.Node;
 
 import com.merkle.oss.magnolia.powernode.AbstractLocalizedNameProvider;
+import com.merkle.oss.magnolia.powernode.SiteResolutionCache;
 
 public class MagnoliaLanguageLocalizedNameProvider extends AbstractLocalizedNameProvider {
 
     @Inject
+	public MagnoliaLanguageLocalizedNameProvider(
+			final SiteResolutionCache siteResolutionCache,
+			final I18nContentSupport i18nContentSupport
+	) {
+		super(siteResolutionCache, i18nContentSupport);
+	}
+
 	public MagnoliaLanguageLocalizedNameProvider(
 			final SiteManager siteManager,
 			final I18nContentSupport i18nContentSupport
@@ -35,7 +43,7 @@ public class MagnoliaLanguageLocalizedNameProvider extends AbstractLocalizedName
 
 	@Override
 	protected String appendLocaleSuffix(final String propertyName, final Locale locale) {
-		return String.format("%s_%s", propertyName, locale.getLanguage());
+		return propertyName + '_' + locale.getLanguage();
 	}
 
 	private boolean equalsLanguage(@Nullable final Locale locale1, @Nullable final Locale locale2) {
@@ -0,0 +1,50 @@
+package com.merkle.oss.magnolia.powernode.magnolia;
+
+import info.magnolia.cms.i18n.I18nContentSupport;
+import info.magnolia.module.site.Site;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import javax.jcr.Node;
+
+import com.merkle.oss.magnolia.powernode.LocaleFallbackChainProvider;
+import com.merkle.oss.magnolia.powernode.SiteResolutionCache;
+
+/**
+ * locale -> language -> fallback locale -> default locale of the site i18n configuration.
+ */
+public class MagnoliaLocaleFallbackChainProvider implements LocaleFallbackChainProvider {
+	private final Function<Optional<Node>, I18nContentSupport> i18nContentSupportProvider;
+
+	@Inject
+	public MagnoliaLocaleFallbackChainProvider(
+			final SiteResolutionCache siteResolutionCache,
+			final I18nContentSupport i18nContentSupport
+	) {
+		this((node) -> node.map(siteResolutionCache::getAssignedSite).map(Site::getI18n).orElse(i18nContentSupport));
+	}
+
+	protected MagnoliaLocaleFallbackChainProvider(final Function<Optional<Node>, I18nContentSupport> i18nContentSupportProvider) {
+		this.i18nContentSupportProvider = i18nContentSupportProvider;
+	}
+
+	@Override
+	public List<Locale> getLocales(@Nullable final Node node, final Locale locale) {
+		final I18nContentSupport i18nContentSupport = i18nContentSupportProvider.apply(Optional.ofNullable(node));
+		final Set<Locale> locales = new LinkedHashSet<>();
+		locales.add(locale);
+		if (!locale.getCountry().isEmpty() || !locale.getVariant().isEmpty()) {
+			locales.add(new Locale(locale.getLanguage()));
+		}
+		Optional.ofNullable(i18nContentSupport.getFallbackLocale()).ifPresent(locales::add);
+		Optional.ofNullable(i18nContentSupport.getDefaultLocale()).ifPresent(locales::add);
+		return List.copyOf(locales);
+	}
+}
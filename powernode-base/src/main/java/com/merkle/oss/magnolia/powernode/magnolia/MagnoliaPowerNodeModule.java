@@ -0,0 +1,38 @@
+package com.merkle.oss.magnolia.powernode.magnolia;
+
+import info.magnolia.module.ModuleLifecycle;
+import info.magnolia.module.ModuleLifecycleContext;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+
+import com.merkle.oss.magnolia.powernode.ContentCache;
+import com.merkle.oss.magnolia.powernode.SiteResolutionCache;
+
+/**
+ * Releases the resources of the powernode components once the module stops (shutdown or restart), i.e. the observations of the {@link MagnoliaContentCache} and {@link MagnoliaSiteResolutionCache}.
+ */
+public class MagnoliaPowerNodeModule implements ModuleLifecycle {
+	private final Provider<ContentCache> contentCacheProvider;
+	private final Provider<SiteResolutionCache> siteResolutionCacheProvider;
+
+	@Inject
+	public MagnoliaPowerNodeModule(final Provider<ContentCache> contentCacheProvider, final Provider<SiteResolutionCache> siteResolutionCacheProvider) {
+		this.contentCacheProvider = contentCacheProvider;
+		this.siteResolutionCacheProvider = siteResolutionCacheProvider;
+	}
+
+	@Override
+	public void start(final ModuleLifecycleContext moduleLifecycleContext) {
+	}
+
+	@Override
+	public void stop(final ModuleLifecycleContext moduleLifecycleContext) {
+		if (contentCacheProvider.get() instanceof MagnoliaContentCache magnoliaContentCache) {
+			magnoliaContentCache.stop();
+		}
+		if (siteResolutionCacheProvider.get() instanceof MagnoliaSiteResolutionCache magnoliaSiteResolutionCache) {
+			magnoliaSiteResolutionCache.stop();
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.merkle.oss.magnolia.powernode.magnolia;
+
+import info.magnolia.context.Context;
+import info.magnolia.context.MgnlContext;
+import info.magnolia.context.WebContext;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.annotation.Nullable;
+import javax.jcr.Session;
+
+import com.merkle.oss.magnolia.powernode.NodeMemo;
+import com.merkle.oss.magnolia.powernode.NodeMemoProvider;
+
+/**
+ * Binds the memos to the request of the current web context (stored as request attribute), no memoization outside of requests.
+ */
+public class MagnoliaRequestNodeMemoProvider implements NodeMemoProvider {
+	private static final String ATTRIBUTE_NAME = MagnoliaRequestNodeMemoProvider.class.getName();
+
+	@Override
+	public Optional<NodeMemo> get(final Session session) {
+		return Optional.ofNullable(MgnlContext.getWebContextOrNull()).map(webContext ->
+				getMemos(webContext).computeIfAbsent(session, key -> new NodeMemo())
+		);
+	}
+
+	private Map<Session, NodeMemo> getMemos(final WebContext webContext) {
+		@Nullable
+		Map<Session, NodeMemo> memos = webContext.getAttribute(ATTRIBUTE_NAME, Context.LOCAL_SCOPE);
+		if (memos == null) {
+			memos = new IdentityHashMap<>();
+			webContext.setAttribute(ATTRIBUTE_NAME, memos, Context.LOCAL_SCOPE);
+		}
+		return memos;
+	}
+}
@@ -0,0 +1,60 @@
+package com.merkle.oss.magnolia.powernode.magnolia;
+
+import info.magnolia.module.site.SiteManager;
+import info.magnolia.observation.WorkspaceEventListenerRegistration;
+import info.magnolia.repository.RepositoryConstants;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import javax.jcr.RepositoryException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.merkle.oss.magnolia.powernode.SiteResolutionCache;
+
+/**
+ * Invalidates the cache if the site configuration (single or multi site) changes.<br>
+ * The observations are unregistered once the module stops, see {@link MagnoliaPowerNodeModule}.
+ */
+@Singleton
+public class MagnoliaSiteResolutionCache extends SiteResolutionCache {
+	private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+	private static final List<String> SITE_CONFIGURATION_PATHS = List.of("/modules/site/config", "/modules/multisite/config");
+	private final List<WorkspaceEventListenerRegistration.Handle> observations = new ArrayList<>();
+
+	@Inject
+	public MagnoliaSiteResolutionCache(final SiteManager siteManager) {
+		super(siteManager);
+		for (String path : SITE_CONFIGURATION_PATHS) {
+			try {
+				observations.add(WorkspaceEventListenerRegistration.observe(RepositoryConstants.CONFIG, path, events -> invalidate())
+						.withSubNodes(true)
+						.withDelay(1000L, 5000L)
+						.register()
+				);
+			} catch (RepositoryException e) {
+				LOG.error("Failed to observe site configuration " + path, e);
+			}
+		}
+	}
+
+	/**
+	 * Unregisters the observations (nothing invalidates the cache anymore, hence it's invalidated).
+	 */
+	public synchronized void stop() {
+		for (WorkspaceEventListenerRegistration.Handle handle : observations) {
+			try {
+				handle.unregister();
+			} catch (RepositoryException e) {
+				LOG.warn("Failed to unregister observation of site configuration", e);
+			}
+		}
+		observations.clear();
+		invalidate();
+	}
+}
@@ -0,0 +1,19 @@
+package com.merkle.oss.magnolia.powernode.mapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a {@code <TypeName>Mapper} class (next to the annotated record or interface) which projects a node to the type.<br>
+ * Property names and value conversions are resolved at compile time and all properties are read in a single pass ({@link com.merkle.oss.magnolia.powernode.PropertyBag}).<br>
+ * Supported component types: String, Long, Integer, Double, Boolean (also as primitives), BigDecimal, Date, Instant, LocalDate, LocalDateTime, ZonedDateTime and Binary,
+ * each optionally wrapped in Optional (single value), List or Set (multi value).
+ * Missing properties are mapped to null, empty collections or the default value of primitives.<br>
+ * Requires {@code magnolia-powernode-generator} as annotation processor.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface NodeMapper {
+}
@@ -0,0 +1,15 @@
+package com.merkle.oss.magnolia.powernode.mapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the property name of a {@link NodeMapper} component (defaults to the component name).
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.RECORD_COMPONENT, ElementType.METHOD})
+public @interface NodeProperty {
+	String value();
+}
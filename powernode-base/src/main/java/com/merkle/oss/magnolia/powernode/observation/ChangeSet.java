@@ -0,0 +1,51 @@
+package com.merkle.oss.magnolia.powernode.observation;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.merkle.oss.magnolia.powernode.AbstractPowerNode;
+
+/**
+ * Coalesced changes of a workspace (one {@link NodeChange} per node path, in order of their first event).
+ */
+public class ChangeSet<N extends AbstractPowerNode<N>> {
+	private final String workspace;
+	private final List<NodeChange> changes;
+	private final Function<NodeChange, Optional<N>> resolver;
+
+	ChangeSet(final String workspace, final List<NodeChange> changes, final Function<NodeChange, Optional<N>> resolver) {
+		this.workspace = workspace;
+		this.changes = changes;
+		this.resolver = resolver;
+	}
+
+	public String getWorkspace() {
+		return workspace;
+	}
+
+	public List<NodeChange> getChanges() {
+		return changes;
+	}
+
+	/**
+	 * Resolves the node with the system session of the calling thread.
+	 * @return empty if the node doesn't exist (anymore)
+	 */
+	public Optional<N> getNode(final NodeChange change) {
+		return resolver.apply(change);
+	}
+
+	/**
+	 * @return the changed nodes that (still) exist
+	 */
+	public Stream<N> streamNodes() {
+		return changes.stream().map(this::getNode).flatMap(Optional::stream);
+	}
+
+	@Override
+	public String toString() {
+		return "ChangeSet{workspace='" + workspace + "', changes=" + changes + '}';
+	}
+}
@@ -0,0 +1,100 @@
+package com.merkle.oss.magnolia.powernode.observation;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.annotation.Nullable;
+import javax.jcr.observation.Event;
+
+/**
+ * All events of a node within a batch, property events are attributed to their node.
+ */
+public class NodeChange {
+	private final String path;
+	@Nullable
+	private final String identifier;
+	private final int eventTypes;
+	private final Set<String> propertyNames;
+
+	private NodeChange(final String path, @Nullable final String identifier, final int eventTypes, final Set<String> propertyNames) {
+		this.path = path;
+		this.identifier = identifier;
+		this.eventTypes = eventTypes;
+		this.propertyNames = propertyNames;
+	}
+
+	public String getPath() {
+		return path;
+	}
+
+	public Optional<String> getIdentifier() {
+		return Optional.ofNullable(identifier);
+	}
+
+	/**
+	 * @return bitwise or of the {@link Event} types
+	 */
+	public int getEventTypes() {
+		return eventTypes;
+	}
+
+	public boolean hasEventType(final int eventType) {
+		return (eventTypes & eventType) != 0;
+	}
+
+	public boolean isAdded() {
+		return hasEventType(Event.NODE_ADDED);
+	}
+
+	/**
+	 * Also true for the source path of a moved node.
+	 */
+	public boolean isRemoved() {
+		return hasEventType(Event.NODE_REMOVED);
+	}
+
+	public boolean isMoved() {
+		return hasEventType(Event.NODE_MOVED);
+	}
+
+	/**
+	 * @return names of the added, changed or removed properties
+	 */
+	public Set<String> getPropertyNames() {
+		return propertyNames;
+	}
+
+	@Override
+	public String toString() {
+		return "NodeChange{path='" + path + "', identifier='" + identifier + "', eventTypes=" + eventTypes + ", propertyNames=" + propertyNames + '}';
+	}
+
+	static class Builder {
+		private final String path;
+		@Nullable
+		private String identifier;
+		private int eventTypes;
+		private final Set<String> propertyNames = new LinkedHashSet<>();
+
+		Builder(final String path) {
+			this.path = path;
+		}
+
+		Builder add(final int eventType, @Nullable final String identifier, @Nullable final String propertyName) {
+			this.eventTypes |= eventType;
+			if (identifier != null) {
+				this.identifier = identifier;
+			}
+			if (propertyName != null) {
+				propertyNames.add(propertyName);
+			}
+			return this;
+		}
+
+		NodeChange build() {
+			return new NodeChange(path, identifier, eventTypes, Collections.unmodifiableSet(propertyNames));
+		}
+	}
+}
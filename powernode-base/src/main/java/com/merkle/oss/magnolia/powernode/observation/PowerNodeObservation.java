@@ -0,0 +1,219 @@
+package com.merkle.oss.magnolia.powernode.observation;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.annotation.Nullable;
+import javax.jcr.RepositoryException;
+import javax.jcr.observation.Event;
+import javax.jcr.observation.EventIterator;
+import javax.jcr.observation.EventListener;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.merkle.oss.magnolia.powernode.AbstractPowerNode;
+import com.merkle.oss.magnolia.powernode.AbstractPowerNodeDecorator;
+import com.merkle.oss.magnolia.powernode.JcrSessionProvider;
+import com.merkle.oss.magnolia.powernode.NodeService;
+
+/**
+ * Registers event listeners (see {@link JcrSessionProvider#addEventListener(String, String, boolean, int, EventListener)}) and delivers the events in batches:<br>
+ * Events are coalesced per node path (property events are attributed to their node) until no event arrived within the window, but at most for the max delay.
+ * Each subscription has at most one batch in flight on the executor, events arriving meanwhile are coalesced into the next batch.
+ */
+public class PowerNodeObservation<N extends AbstractPowerNode<N>> {
+	private static final Logger LOG = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+	private static final int NODE_EVENTS = Event.NODE_ADDED | Event.NODE_REMOVED | Event.NODE_MOVED;
+	private static final int PROPERTY_EVENTS = Event.PROPERTY_ADDED | Event.PROPERTY_CHANGED | Event.PROPERTY_REMOVED;
+	private final NodeService nodeService;
+	private final AbstractPowerNodeDecorator<N> decorator;
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * @param executor delivers the batches (subscribers should not block it for long)
+	 */
+	public PowerNodeObservation(
+			final NodeService nodeService,
+			final AbstractPowerNodeDecorator<N> decorator,
+			final ScheduledExecutorService executor
+	) {
+		this.nodeService = nodeService;
+		this.decorator = decorator;
+		this.executor = executor;
+	}
+
+	public Builder observe(final String workspace, final String path) {
+		return new Builder(workspace, path);
+	}
+
+	public interface Registration {
+		void unregister();
+	}
+
+	public class Builder {
+		private final String workspace;
+		private final String path;
+		private int eventTypes = NODE_EVENTS | PROPERTY_EVENTS;
+		private boolean subNodes = true;
+		private Duration window = Duration.ofSeconds(1);
+		private Duration maxDelay = Duration.ofSeconds(10);
+
+		private Builder(final String workspace, final String path) {
+			this.workspace = workspace;
+			this.path = path;
+		}
+
+		/**
+		 * @param eventTypes bitwise or of the {@link Event} types (default: all node and property events)
+		 */
+		public Builder withEventTypes(final int eventTypes) {
+			this.eventTypes = eventTypes;
+			return this;
+		}
+
+		public Builder withSubNodes(final boolean subNodes) {
+			this.subNodes = subNodes;
+			return this;
+		}
+
+		/**
+		 * @param window quiet period after the last event until the batch is delivered (default: 1s)
+		 */
+		public Builder withWindow(final Duration window) {
+			this.window = window;
+			return this;
+		}
+
+		/**
+		 * @param maxDelay maximum delay after the first event until the batch is delivered (default: 10s)
+		 */
+		public Builder withMaxDelay(final Duration maxDelay) {
+			this.maxDelay = maxDelay;
+			return this;
+		}
+
+		public Registration subscribe(final Consumer<ChangeSet<N>> subscriber) {
+			final BatchingEventListener listener = new BatchingEventListener(workspace, window.toNanos(), maxDelay.toNanos(), subscriber);
+			final JcrSessionProvider.EventListenerRegistration registration = nodeService.addEventListener(workspace, path, subNodes, eventTypes, listener);
+			return () -> {
+				listener.cancel();
+				nodeService.run(registration::unregister);
+			};
+		}
+	}
+
+	private Optional<N> resolve(final String workspace, final NodeChange change) {
+		return nodeService.getSystemSession(workspace)
+				.flatMap(session -> nodeService.getByPath(session, change.getPath()))
+				.map(decorator::wrapNode);
+	}
+
+	private class BatchingEventListener implements EventListener {
+		private final String workspace;
+		private final long windowNanos;
+		private final long maxDelayNanos;
+		private final Consumer<ChangeSet<N>> subscriber;
+		/**
+		 * path -> change (guarded by this)
+		 */
+		private final Map<String, NodeChange.Builder> pending = new LinkedHashMap<>();
+		private long firstEventNanos;
+		@Nullable
+		private ScheduledFuture<?> scheduledFlush;
+		private boolean delivering;
+		private boolean cancelled;
+
+		private BatchingEventListener(final String workspace, final long windowNanos, final long maxDelayNanos, final Consumer<ChangeSet<N>> subscriber) {
+			this.workspace = workspace;
+			this.windowNanos = windowNanos;
+			this.maxDelayNanos = maxDelayNanos;
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void onEvent(final EventIterator events) {
+			synchronized (this) {
+				while (events.hasNext()) {
+					add(events.nextEvent());
+				}
+				scheduleFlush();
+			}
+		}
+
+		private void add(final Event event) {
+			try {
+				final int type = event.getType();
+				if ((type & PROPERTY_EVENTS) != 0) {
+					final String propertyPath = event.getPath();
+					final int index = propertyPath.lastIndexOf('/');
+					add(index > 0 ? propertyPath.substring(0, index) : "/", type, event.getIdentifier(), propertyPath.substring(index + 1));
+				} else if ((type & NODE_EVENTS) != 0) {
+					add(event.getPath(), type, event.getIdentifier(), null);
+					if (type == Event.NODE_MOVED && event.getInfo().get("srcAbsPath") instanceof String srcAbsPath) {
+						add(srcAbsPath, Event.NODE_REMOVED, event.getIdentifier(), null);
+					}
+				}
+			} catch (RepositoryException e) {
+				LOG.warn("Failed to process event " + event + " of workspace " + workspace, e);
+			}
+		}
+
+		private void add(final String path, final int type, @Nullable final String identifier, @Nullable final String propertyName) {
+			if (pending.isEmpty()) {
+				firstEventNanos = System.nanoTime();
+			}
+			pending.computeIfAbsent(path, NodeChange.Builder::new).add(type, identifier, propertyName);
+		}
+
+		private void scheduleFlush() {
+			if (pending.isEmpty() || delivering || cancelled) {
+				return;
+			}
+			if (scheduledFlush != null) {
+				scheduledFlush.cancel(false);
+			}
+			final long delay = Math.min(windowNanos, Math.max(0, firstEventNanos + maxDelayNanos - System.nanoTime()));
+			scheduledFlush = executor.schedule(this::flush, delay, TimeUnit.NANOSECONDS);
+		}
+
+		private void flush() {
+			final List<NodeChange> changes;
+			synchronized (this) {
+				if (pending.isEmpty() || delivering || cancelled) {
+					return;
+				}
+				changes = pending.values().stream().map(NodeChange.Builder::build).toList();
+				pending.clear();
+				scheduledFlush = null;
+				delivering = true;
+			}
+			try {
+				subscriber.accept(new ChangeSet<>(workspace, changes, change -> resolve(workspace, change)));
+			} catch (RuntimeException e) {
+				LOG.error("Failed to deliver changes of workspace " + workspace, e);
+			} finally {
+				synchronized (this) {
+					delivering = false;
+					scheduleFlush();
+				}
+			}
+		}
+
+		private synchronized void cancel() {
+			cancelled = true;
+			pending.clear();
+			if (scheduledFlush != null) {
+				scheduledFlush.cancel(false);
+			}
+		}
+	}
+}
@@ -10,8 +10,8 @@ import javax.jcr.Property;
 import com.merkle.oss.magnolia.powernode.RepositoryExceptionDelegator;
 
 public class IsMetaDataProperty extends RepositoryExceptionDelegator implements Predicate<Property> {
-    private final Set<String> NAME_PREFIXES = Set.of(NodeTypes.JCR_PREFIX, NodeTypes.REP_PREFIX);
-    private final Set<String> BLACKLISTED_NAMES = Set.of(
+    private static final Set<String> NAME_PREFIXES = Set.of(NodeTypes.JCR_PREFIX, NodeTypes.REP_PREFIX);
+    private static final Set<String> BLACKLISTED_NAMES = Set.of(
             NodeTypes.Created.NAME,
             NodeTypes.Created.CREATED_BY,
             NodeTypes.LastModified.NAME,
@@ -26,9 +26,18 @@ public class IsMetaDataProperty extends RepositoryExceptionDelegator implements
 
     @Override
     public boolean test(final Property property) {
-        return NAME_PREFIXES.stream().anyMatch(prefix -> {
-            final String name = getOrThrow(property::getName);
-            return name.startsWith(prefix) || BLACKLISTED_NAMES.contains(name);
-        });
+        return testName(getOrThrow(property::getName));
+    }
+
+    public boolean testName(final String propertyName) {
+        if (BLACKLISTED_NAMES.contains(propertyName)) {
+            return true;
+        }
+        for (String prefix : NAME_PREFIXES) {
+            if (propertyName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -10,6 +10,7 @@ import info.magnolia.test.ComponentsTestUtil;
 import info.magnolia.test.mock.jcr.MockNode;
 import info.magnolia.test.mock.jcr.MockSession;
 
+import java.lang.ref.WeakReference;
 import java.time.ZoneId;
 
 import javax.jcr.Node;
@@ -45,6 +46,45 @@ class AbstractPowerNodeDecoratorTest {
         assertFalse(NodeUtil.isWrappedWith(NodeUtil.unwrap(node), PowerNode.class));
     }
 
+    @Test
+    void wrap_cached() throws RepositoryException {
+        final MockNode mockNode = new MockNode(new MockSession("testing"));
+        final PowerNodeDecorator cachingPowerNodeDecorator = new PowerNodeDecorator(true);
+        final PowerNode node = cachingPowerNodeDecorator.wrapNode(mockNode);
+        assertSame(node, cachingPowerNodeDecorator.wrapNode(mockNode));
+        assertSame(node, cachingPowerNodeDecorator.wrapNode(new I18nNodeWrapper(mockNode)));
+        assertNotSame(node, cachingPowerNodeDecorator.wrapNode(new MockNode(new MockSession("testing"))));
+        assertNotSame(powerNodeDecorator.wrapNode(mockNode), powerNodeDecorator.wrapNode(mockNode));
+    }
+
+    @Test
+    void wrap_cached_invalidate() {
+        final MockSession session = new MockSession("testing");
+        final MockNode mockNode = new MockNode(session);
+        final PowerNodeDecorator cachingPowerNodeDecorator = new PowerNodeDecorator(true);
+        final PowerNode node = cachingPowerNodeDecorator.wrapNode(mockNode);
+        cachingPowerNodeDecorator.invalidate(session);
+        assertNotSame(node, cachingPowerNodeDecorator.wrapNode(mockNode));
+    }
+
+    @Test
+    void wrap_cached_sessionCollectable() throws InterruptedException {
+        final PowerNodeDecorator cachingPowerNodeDecorator = new PowerNodeDecorator(true);
+        final WeakReference<MockSession> session = wrapInNewSession(cachingPowerNodeDecorator);
+        for (int i = 0; i < 50 && session.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(session.get());
+    }
+
+    private WeakReference<MockSession> wrapInNewSession(final PowerNodeDecorator cachingPowerNodeDecorator) {
+        final MockSession session = new MockSession("testing");
+        final MockNode mockNode = new MockNode(session);
+        assertSame(cachingPowerNodeDecorator.wrapNode(mockNode), cachingPowerNodeDecorator.wrapNode(mockNode));
+        return new WeakReference<>(session);
+    }
+
     private static class PowerNode extends AbstractPowerNode<PowerNode> {
         private PowerNode(final Node node) {
             super(
@@ -55,6 +95,12 @@ class AbstractPowerNodeDecoratorTest {
         }
     }
     private static class PowerNodeDecorator extends AbstractPowerNodeDecorator<PowerNode> {
+        private PowerNodeDecorator() {
+            super();
+        }
+        private PowerNodeDecorator(final boolean cacheWrappers) {
+            super(cacheWrappers);
+        }
         @Override
         protected PowerNode wrapNodeInternal(final Node node) {
             return new PowerNode(node);
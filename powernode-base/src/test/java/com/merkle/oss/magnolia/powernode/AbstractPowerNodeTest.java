@@ -1,6 +1,7 @@
 package com.merkle.oss.magnolia.powernode;
 
 import com.merkle.oss.magnolia.powernode.mock.LocalizedNameProviderMock;
+import com.merkle.oss.magnolia.powernode.predicate.IsPrimaryNodeType;
 
 import info.magnolia.jcr.util.NodeUtil;
 import info.magnolia.test.mock.jcr.MockNode;
@@ -8,8 +9,10 @@ import info.magnolia.test.mock.jcr.MockSession;
 import org.junit.jupiter.api.Test;
 
 import javax.jcr.Node;
+import javax.jcr.RepositoryException;
 
 import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -35,6 +38,29 @@ class AbstractPowerNodeTest {
 		assertNotEquals(node1.hashCode(), node2.hashCode());
 	}
 
+	@Test
+	void getNodeKey() {
+		final PowerNode node = new PowerNode("node1", "1");
+		final NodeKey nodeKey = node.getNodeKey();
+
+		assertEquals(new NodeKey("testing", "1"), nodeKey);
+		assertSame(nodeKey, node.getNodeKey());
+		assertNotEquals(new NodeKey("other", "1"), nodeKey);
+	}
+
+	@Test
+	void streamChildrenRecursive_traversalWrapsOnce() throws RepositoryException {
+		final MockNode mockNode = new MockNode(new MockSession("testing"));
+		mockNode.addNode("child1", "mgnl:page").addNode("grandChild", "mgnl:page");
+		mockNode.addNode("child2", "mgnl:area").addNode("grandChild", "mgnl:component");
+		final AtomicInteger wraps = new AtomicInteger();
+		final PowerNode node = new PowerNode(mockNode, wraps);
+
+		final NodeTraversal<PowerNode> traversal = NodeTraversal.<PowerNode>depthFirst().descend(new IsPrimaryNodeType<>("mgnl:page"));
+		assertEquals(3, node.streamChildrenRecursive(traversal).count());
+		assertEquals(3, wraps.get());
+	}
+
 	private static class PowerNode extends AbstractPowerNode<PowerNode> {
 		private PowerNode(final String name, final String identifier) {
 			this(createMockNode(name, identifier));
@@ -48,6 +74,10 @@ class AbstractPowerNodeTest {
 		}
 
 		private PowerNode(final Node node) {
+			this(node, new AtomicInteger());
+		}
+
+		private PowerNode(final Node node, final AtomicInteger wraps) {
 			super(
 					new NodeService(
 							new LocalizedNameProviderMock(),
@@ -59,7 +89,8 @@ class AbstractPowerNodeTest {
 					new AbstractPowerNodeDecorator<>() {
 						@Override
 						protected PowerNode wrapNodeInternal(Node node) {
-							return new PowerNode(node);
+							wraps.incrementAndGet();
+							return new PowerNode(node, wraps);
 						}
 
 						@Override
@@ -0,0 +1,107 @@
+package com.merkle.oss.magnolia.powernode;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import info.magnolia.jcr.RuntimeRepositoryException;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jcr.InvalidItemStateException;
+import javax.jcr.RepositoryException;
+import javax.jcr.Session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.merkle.oss.magnolia.powernode.mock.JcrSessionProviderMock;
+import com.merkle.oss.magnolia.powernode.mock.LocalizedNameProviderMock;
+
+class BulkWriterTest {
+	private Session session;
+	private List<BulkWriter.Progress> progress;
+	private BulkWriter.Factory factory;
+
+	@BeforeEach
+	void setUp() {
+		session = mock(Session.class);
+		progress = new ArrayList<>();
+		factory = new BulkWriter.Factory(new NodeService(
+				new LocalizedNameProviderMock(),
+				null,
+				new JcrSessionProviderMock(),
+				new PropertyService(valueFactory -> new ValueConverter(valueFactory, ZoneId::systemDefault))
+		));
+	}
+
+	@Test
+	void write_batchByNodes() throws RepositoryException {
+		final AtomicInteger writes = new AtomicInteger();
+		try (BulkWriter writer = factory.builder(session).withMaxBatchNodes(2).withProgressListener(progress::add).build()) {
+			for (int i = 0; i < 5; i++) {
+				writer.write(s -> writes.incrementAndGet());
+			}
+		}
+		assertEquals(5, writes.get());
+		verify(session, times(3)).save();
+		verify(session, times(3)).refresh(false);
+		assertEquals(3, progress.size());
+		assertEquals(3, progress.get(2).getBatches());
+		assertEquals(5, progress.get(2).getNodes());
+	}
+
+	@Test
+	void write_batchByBytes() throws RepositoryException {
+		try (BulkWriter writer = factory.builder(session).withMaxBatchBytes(100).withProgressListener(progress::add).build()) {
+			writer.write(1, 60, s -> {});
+			verify(session, never()).save();
+			writer.write(1, 60, s -> {});
+			verify(session, times(1)).save();
+		}
+		verify(session, times(1)).save();
+		assertEquals(120, progress.get(0).getBytes());
+	}
+
+	@Test
+	void flush_retry() throws RepositoryException {
+		final AtomicInteger writes = new AtomicInteger();
+		doThrow(new InvalidItemStateException("concurrent modification")).doNothing().when(session).save();
+		try (BulkWriter writer = factory.builder(session).withRetryDelay(Duration.ZERO).withProgressListener(progress::add).build()) {
+			writer.write(s -> writes.incrementAndGet());
+			writer.write(s -> writes.incrementAndGet());
+		}
+		assertEquals(4, writes.get());
+		verify(session, times(2)).save();
+		assertEquals(1, progress.get(0).getRetries());
+		assertEquals(2, progress.get(0).getNodes());
+	}
+
+	@Test
+	void flush_retriesExhausted() throws RepositoryException {
+		doThrow(new InvalidItemStateException("concurrent modification")).when(session).save();
+		final BulkWriter writer = factory.builder(session).withMaxAttempts(2).withRetryDelay(Duration.ZERO).withProgressListener(progress::add).build();
+		writer.write(s -> {});
+		assertThrows(RuntimeRepositoryException.class, writer::flush);
+		verify(session, times(2)).save();
+		verify(session, times(2)).refresh(false);
+		assertTrue(progress.isEmpty());
+		writer.flush();
+		verify(session, times(2)).save();
+	}
+
+	@Test
+	void flush_interrupted() throws RepositoryException {
+		doThrow(new InvalidItemStateException("concurrent modification")).when(session).save();
+		final BulkWriter writer = factory.builder(session).withRetryDelay(Duration.ofMinutes(1)).build();
+		writer.write(s -> {});
+		Thread.currentThread().interrupt();
+		final IllegalStateException e = assertThrows(IllegalStateException.class, writer::flush);
+		assertTrue(Thread.interrupted());
+		assertEquals("Interrupted while retrying batch 1", e.getMessage());
+		verify(session, times(1)).save();
+	}
+}
@@ -0,0 +1,162 @@
+package com.merkle.oss.magnolia.powernode;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jcr.Node;
+import javax.jcr.Property;
+import javax.jcr.PropertyType;
+import javax.jcr.RepositoryException;
+import javax.jcr.Session;
+import javax.jcr.Value;
+import javax.jcr.ValueFormatException;
+import javax.jcr.Workspace;
+import javax.jcr.observation.Event;
+
+import org.apache.jackrabbit.commons.iterator.EventIteratorAdapter;
+import org.apache.jackrabbit.value.StringValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ContentCacheTest {
+	private ContentCache contentCache;
+	private Session session;
+	private Node node;
+	private Property property;
+	private AtomicInteger loads;
+
+	@BeforeEach
+	void setUp() throws RepositoryException {
+		contentCache = new ContentCache(10);
+		final Workspace workspace = mock(Workspace.class);
+		doReturn("website").when(workspace).getName();
+		session = mock(Session.class);
+		doReturn(workspace).when(session).getWorkspace();
+		node = mock(Node.class);
+		doReturn(session).when(node).getSession();
+		doReturn("1").when(node).getIdentifier();
+		doReturn("/node").when(node).getPath();
+		property = mock(Property.class);
+		doReturn(PropertyType.STRING).when(property).getType();
+		doReturn(new StringValue("someValue")).when(property).getValue();
+		loads = new AtomicInteger();
+	}
+
+	@Test
+	void getValueOrNull() throws RepositoryException {
+		assertEquals("someValue", contentCache.getValueOrNull(node, "someKey", this::load).getString());
+		assertEquals("someValue", contentCache.getValueOrNull(node, "someKey", this::load).getString());
+		assertEquals(1, loads.get());
+		assertEquals(1, contentCache.getHitCount());
+		assertEquals(1, contentCache.getMissCount());
+
+		assertNull(contentCache.getValueOrNull(node, "missing", () -> null));
+		assertNull(contentCache.getValueOrNull(node, "missing", () -> fail("absent property must be cached")));
+	}
+
+	@Test
+	void getValueOrNull_disabled() throws RepositoryException {
+		final ContentCache disabled = new ContentCache.Disabled();
+		assertFalse(disabled.isEnabled());
+		assertEquals("someValue", disabled.getValueOrNull(node, "someKey", this::load).getString());
+		assertEquals("someValue", disabled.getValueOrNull(node, "someKey", this::load).getString());
+		assertEquals(2, loads.get());
+		assertEquals(0, disabled.getMissCount());
+		verify(node, never()).getSession();
+	}
+
+	@Test
+	void getValueOrNull_invalidatedWhileLoading() throws RepositoryException {
+		final RepositoryExceptionDelegator.RepositoryProvider<Property> invalidatingLoader = () -> {
+			contentCache.invalidate("website", new EventIteratorAdapter(List.of(event(Event.PROPERTY_CHANGED, "/node/someKey", "1"))));
+			return load();
+		};
+		contentCache.getValueOrNull(node, "someKey", invalidatingLoader);
+		contentCache.getValueOrNull(node, "someKey", this::load);
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void getValueOrNull_pendingChanges() throws RepositoryException {
+		doReturn(true).when(session).hasPendingChanges();
+		contentCache.getValueOrNull(node, "someKey", this::load);
+		contentCache.getValueOrNull(node, "someKey", this::load);
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void getValueOrNull_binary() throws RepositoryException {
+		doReturn(PropertyType.BINARY).when(property).getType();
+		contentCache.getValueOrNull(node, "someKey", this::load);
+		contentCache.getValueOrNull(node, "someKey", this::load);
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void getValuesOrNull() throws RepositoryException {
+		doReturn(true).when(property).isMultiple();
+		doReturn(new Value[]{ new StringValue("someValue"), new StringValue("someOtherValue") }).when(property).getValues();
+		assertEquals(2, contentCache.getValuesOrNull(node, "someKey", this::load).length);
+		assertThrows(ValueFormatException.class, () -> contentCache.getValueOrNull(node, "someKey", this::load));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void invalidate_propertyChanged() throws RepositoryException {
+		contentCache.getValueOrNull(node, "someKey", this::load);
+		contentCache.invalidate("website", new EventIteratorAdapter(List.of(event(Event.PROPERTY_CHANGED, "/node/someKey", "1"))));
+		contentCache.getValueOrNull(node, "someKey", this::load);
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void getByPath() throws RepositoryException {
+		doReturn(true).when(session).nodeExists("/node");
+		doReturn(node).when(session).getNode("/node");
+		doReturn(node).when(session).getNodeByIdentifier("1");
+
+		assertSame(node, contentCache.getByPath(session, "/node"));
+		assertSame(node, contentCache.getByPath(session, "/node"));
+		verify(session, times(1)).getNode("/node");
+
+		contentCache.invalidate("website", new EventIteratorAdapter(List.of(event(Event.NODE_REMOVED, "/node", "1"))));
+		assertSame(node, contentCache.getByPath(session, "/node"));
+		verify(session, times(2)).getNode("/node");
+	}
+
+	@Test
+	void getByPath_moved() throws RepositoryException {
+		doReturn(true).when(session).nodeExists("/node");
+		doReturn(node).when(session).getNode("/node");
+		doReturn(node).when(session).getNodeByIdentifier("1");
+		assertSame(node, contentCache.getByPath(session, "/node"));
+
+		// resolved by identifier until the move is observed
+		doReturn("/moved").when(node).getPath();
+		doReturn(false).when(session).nodeExists("/node");
+		assertSame(node, contentCache.getByPath(session, "/node"));
+		verify(node, never()).getPath();
+
+		final Event moved = event(Event.NODE_MOVED, "/moved", "1");
+		doReturn(Map.of("srcAbsPath", "/node")).when(moved).getInfo();
+		contentCache.invalidate("website", new EventIteratorAdapter(List.of(moved)));
+		assertNull(contentCache.getByPath(session, "/node"));
+	}
+
+	private Property load() {
+		loads.incrementAndGet();
+		return property;
+	}
+
+	private Event event(final int type, final String path, final String identifier) throws RepositoryException {
+		final Event event = mock(Event.class);
+		doReturn(type).when(event).getType();
+		doReturn(path).when(event).getPath();
+		doReturn(identifier).when(event).getIdentifier();
+		return event;
+	}
+}
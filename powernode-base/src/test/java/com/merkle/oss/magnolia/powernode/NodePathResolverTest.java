@@ -0,0 +1,76 @@
+package com.merkle.oss.magnolia.powernode;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.ref.WeakReference;
+
+import javax.jcr.Node;
+import javax.jcr.RepositoryException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.merkle.oss.magnolia.powernode.mock.MockSession;
+
+class NodePathResolverTest {
+	private static final NodePathResolver.ChildFactory FACTORY = (parent, name) -> parent.addNode(name, "mgnl:content");
+	private NodePathResolver nodePathResolver;
+	private Node node;
+
+	@BeforeEach
+	void setUp() throws RepositoryException {
+		nodePathResolver = new NodePathResolver();
+		node = spy(new MockSession("website").getRootNode().addNode("node", "mgnl:content"));
+	}
+
+	@Test
+	void getOrAdd() throws RepositoryException {
+		final Node item1 = nodePathResolver.getOrAdd(node, "folder/subFolder/item1", NodePathResolver.Naming.IDENTITY, FACTORY);
+		final Node item2 = nodePathResolver.getOrAdd(node, "folder/subFolder/item2", NodePathResolver.Naming.IDENTITY, FACTORY);
+		assertEquals("/node/folder/subFolder/item1", item1.getPath());
+		assertEquals("/node/folder/subFolder/item2", item2.getPath());
+		assertEquals(item1, nodePathResolver.getOrAdd(node, "folder/subFolder/item1", NodePathResolver.Naming.IDENTITY, FACTORY));
+		verify(node, times(1)).hasNode("folder");
+	}
+
+	@Test
+	void getOrAdd_existing() throws RepositoryException {
+		final Node subFolder = node.addNode("folder", "mgnl:folder").addNode("subFolder", "mgnl:folder");
+		final Node item = subFolder.addNode("item", "mgnl:content");
+		assertEquals(item, nodePathResolver.getOrAdd(node, "folder/subFolder/item", NodePathResolver.Naming.IDENTITY, FACTORY));
+		assertEquals("mgnl:folder", subFolder.getPrimaryNodeType().getName());
+	}
+
+	@Test
+	void getOrAdd_naming() throws RepositoryException {
+		final NodePathResolver.Naming naming = (parent, name) -> name + "_de";
+		assertEquals("/node/folder_de/item_de", nodePathResolver.getOrAdd(node, "folder/item", naming, FACTORY).getPath());
+		assertEquals("/node/folder_de/item2_de", nodePathResolver.getOrAdd(node, "folder/item2", naming, FACTORY).getPath());
+		assertEquals("/node/folder/item", nodePathResolver.getOrAdd(node, "folder/item", NodePathResolver.Naming.IDENTITY, FACTORY).getPath());
+	}
+
+	@Test
+	void invalidate() throws RepositoryException {
+		nodePathResolver.getOrAdd(node, "folder/item1", NodePathResolver.Naming.IDENTITY, FACTORY);
+		nodePathResolver.invalidate(node.getSession());
+		nodePathResolver.getOrAdd(node, "folder/item2", NodePathResolver.Naming.IDENTITY, FACTORY);
+		verify(node, times(2)).hasNode("folder");
+	}
+
+	@Test
+	void sessionCollectable() throws RepositoryException, InterruptedException {
+		final WeakReference<MockSession> session = resolveInNewSession();
+		for (int i = 0; i < 50 && session.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(session.get());
+	}
+
+	private WeakReference<MockSession> resolveInNewSession() throws RepositoryException {
+		final MockSession session = new MockSession("website");
+		assertEquals("/folder/item", nodePathResolver.getOrAdd(session.getRootNode(), "folder/item", NodePathResolver.Naming.IDENTITY, FACTORY).getPath());
+		return new WeakReference<>(session);
+	}
+}
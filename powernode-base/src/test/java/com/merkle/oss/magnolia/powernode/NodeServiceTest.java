@@ -13,14 +13,34 @@ import info.magnolia.jcr.wrapper.I18nNodeWrapper;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockedStatic;
 
+import org.apache.jackrabbit.value.BinaryImpl;
+
 import javax.jcr.Node;
 import javax.jcr.RepositoryException;
 import javax.jcr.Session;
 import javax.jcr.Workspace;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -30,13 +50,14 @@ import static org.mockito.Mockito.*;
 
 class NodeServiceTest {
 	private MockSession session;
+	private JcrSessionProviderMock jcrSessionProvider;
 	private NodeService nodeService;
 
 	@BeforeEach
 	void setUp() {
 		final NodeNameHelper nodeNameHelper = mock(NodeNameHelper.class);
 		doAnswer(invocationOnMock -> invocationOnMock.getArgument(0)).when(nodeNameHelper).getValidatedName(anyString());
-		final JcrSessionProviderMock jcrSessionProvider = new JcrSessionProviderMock();
+		jcrSessionProvider = new JcrSessionProviderMock();
 		session = new MockSession("testing");
 		jcrSessionProvider.mock(session);
 		jcrSessionProvider.mockSystem(new MockSession("testing"));
@@ -48,6 +69,46 @@ class NodeServiceTest {
 		);
 	}
 
+	@Test
+	void nodeMemo() throws RepositoryException {
+		final NodeMemo memo = new NodeMemo();
+		final AtomicInteger valueConverters = new AtomicInteger();
+		final NodeService memoizingNodeService = new NodeService(
+				new LocalizedNameProviderMock(),
+				mock(NodeNameHelper.class),
+				jcrSessionProvider,
+				new PropertyService(valueFactory -> {
+					valueConverters.incrementAndGet();
+					return new ValueConverter(valueFactory, ZoneId::systemDefault);
+				}, ignored -> Optional.of(memo))
+		);
+		final Session spiedSession = spy(session);
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		memoizingNodeService.setProperty(node, "someKey", "someValue", ValueConverter::toValue);
+
+		assertEquals(Optional.of(node), memoizingNodeService.getByPath(spiedSession, "/node"));
+		assertEquals(Optional.of(node), memoizingNodeService.getByPath(spiedSession, "/node"));
+		verify(spiedSession, times(1)).nodeExists("/node");
+
+		assertEquals(Optional.empty(), memoizingNodeService.getByPath(spiedSession, "/node/child"));
+		final Node child = memoizingNodeService.getOrAddChild(node, "someNodeType", "child");
+		assertEquals(Optional.of(child), memoizingNodeService.getByPath(spiedSession, "/node/child"));
+
+		assertEquals(Optional.of("someValue"), memoizingNodeService.getProperty(node, "someKey", ValueConverter::getString));
+		memoizingNodeService.removeProperty(node, "someKey");
+		assertEquals(Optional.empty(), memoizingNodeService.getProperty(node, "someKey", ValueConverter::getString));
+		memoizingNodeService.setProperty(node, "someKey", "someOtherValue", ValueConverter::toValue);
+		assertEquals(Optional.of("someOtherValue"), memoizingNodeService.getProperty(node, "someKey", ValueConverter::getString));
+
+		// written through another instance of the same node
+		final Node otherInstance = new HTMLEscapingNodeWrapper(node, false);
+		memoizingNodeService.setProperty(otherInstance, "someKey", "yetAnotherValue", ValueConverter::toValue);
+		assertEquals(Optional.of("yetAnotherValue"), memoizingNodeService.getProperty(node, "someKey", ValueConverter::getString));
+		memoizingNodeService.removeProperty(otherInstance, "someKey");
+		assertEquals(Optional.empty(), memoizingNodeService.getProperty(node, "someKey", ValueConverter::getString));
+		assertEquals(1, valueConverters.get());
+	}
+
 	@Test
 	void getSession() {
 		assertEquals(
@@ -115,6 +176,39 @@ class NodeServiceTest {
 		}
 	}
 
+	@Test
+	void renameAll() throws RepositoryException {
+		final Node parent = session.getRootNode().addNode("parent", "someNodeType");
+		final Node node1 = parent.addNode("node1", "someNodeType");
+		final Node node2 = parent.addNode("node2", "someNodeType");
+		final Node node3 = parent.addNode("node3", "someNodeType");
+		final Node node4 = parent.addNode("node4", "someNodeType");
+		try (MockedStatic<NodeTypes.LastModified> lastModified = mockStatic(NodeTypes.LastModified.class)) {
+			nodeService.renameAll(parent, Map.of(
+					"node1", "node1Renamed",
+					"node2", "node4",
+					"node4", "node2",
+					"unknown", "unknownRenamed"
+			));
+			lastModified.verify(() -> NodeTypes.LastModified.update(node1));
+			lastModified.verify(() -> NodeTypes.LastModified.update(node2));
+			lastModified.verify(() -> NodeTypes.LastModified.update(node4));
+			lastModified.verify(() -> NodeTypes.LastModified.update(node3), never());
+			assertEquals(Optional.of(node2), nodeService.getByPath(session, "/parent/node4"));
+			assertEquals(Optional.of(node4), nodeService.getByPath(session, "/parent/node2"));
+
+			//assert order
+			assertEquals(
+					List.of(node1, node2, node3, node4),
+					Lists.newArrayList((Iterator<Node>) parent.getNodes())
+			);
+			assertEquals(
+					List.of("node1Renamed", "node4", "node3", "node2"),
+					Lists.newArrayList((Iterator<Node>) parent.getNodes()).stream().map(node -> nodeService.getOrThrow(node::getName)).collect(Collectors.toList())
+			);
+		}
+	}
+
 	@Test
 	void move() throws RepositoryException {
 		final Node node1 = session.getRootNode().addNode("node1", "someNodeType");
@@ -158,6 +252,26 @@ class NodeServiceTest {
 		assertEquals(List.of(Map.entry(src, copy.get()), Map.entry(src.getNode("subNode1"), subNode1)), copies);
 	}
 
+	@Test
+	void copyRecursive() throws RepositoryException {
+		final Node src = session.getRootNode().addNode("node1", "someNodeType");
+		src.setProperty("property1", 42);
+		src.setProperty(NodeTypes.Created.NAME, "someDate");
+		src.addNode("subNode1", "someNodeType").addNode("subNode2", "someOtherNodeType").setProperty("property2", new String[]{"test"});
+		final Node dst = session.getRootNode().addNode("node2", "someNodeType");
+
+		nodeService.copyRecursive(src, dst);
+
+		final Node copy = session.getNode("/node2/node1");
+		assertEquals(42, copy.getProperty("property1").getLong());
+		assertFalse(copy.hasProperty(NodeTypes.Created.NAME));
+		assertEquals(List.of("test"), PropertyUtil.getValuesStringList(copy.getNode("subNode1/subNode2").getProperty("property2").getValues()));
+
+		nodeService.copy(src, session.getRootNode().addNode("node3", "someNodeType"));
+		assertTrue(session.nodeExists("/node3/node1"));
+		assertFalse(session.nodeExists("/node3/node1/subNode1"));
+	}
+
 	@Test
 	void getOrAddChild() throws RepositoryException {
 		final Node node = session.getRootNode().addNode("node", "someNodeType");
@@ -200,6 +314,23 @@ class NodeServiceTest {
 		);
 	}
 
+	@Test
+	void getChild_fallbackChain() throws RepositoryException {
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		final Node child1 = node.addNode("child1_fr", "someNodeType");
+		final Node child2 = child1.addNode("child2_fr-CA", "someNodeType");
+		child1.addNode("child2_en", "someNodeType");
+
+		assertEquals(
+				Optional.of(child2),
+				nodeService.getChild(node, "child1/child2", List.of(Locale.CANADA_FRENCH, Locale.FRENCH, Locale.ENGLISH))
+		);
+		assertEquals(
+				Optional.empty(),
+				nodeService.getChild(node, "child1/child2", List.of(Locale.GERMAN))
+		);
+	}
+
 	@Test
 	void streamChildren() throws RepositoryException {
 		final Node node = session.getRootNode().addNode("node", "someNodeType");
@@ -242,6 +373,153 @@ class NodeServiceTest {
 		);
 	}
 
+	/**
+	 * node
+	 *  |__child1
+	 *       |__grandChild1
+	 *  |__child2
+	 *       |__grandChild2
+	 */
+	@Test
+	void streamChildrenRecursiveBreadthFirst() throws RepositoryException {
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		final Node child1 = node.addNode("child1", "someNodeType");
+		final Node child2 = node.addNode("child2", "someOtherNodeType");
+		final Node grandChild1 = child1.addNode("grandChild1", "someOtherNodeType");
+		final Node grandChild2 = child2.addNode("grandChild2", "someNodeType");
+		node.addNode(NodeTypes.JCR_PREFIX+"child", "someNodeType").addNode("child", "someNodeType"); //should not be traversed (metaData)
+		assertEquals(
+				List.of(child1, child2, grandChild1, grandChild2),
+				nodeService.streamChildrenRecursiveBreadthFirst(node).collect(Collectors.toList())
+		);
+
+		assertEquals(
+				List.of(child2, grandChild1),
+				nodeService.streamChildrenRecursiveBreadthFirst(node, new NodeTypePredicate("someOtherNodeType")).collect(Collectors.toList())
+		);
+	}
+
+	/**
+	 * node
+	 *  |__child1
+	 *       |__grandChild1
+	 *            |__grandGrandChild1
+	 *  |__child2
+	 *       |__grandChild2
+	 */
+	@Test
+	void streamChildrenRecursive_traversal() throws RepositoryException {
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		final Node child1 = node.addNode("child1", "someNodeType");
+		final Node child2 = node.addNode("child2", "someOtherNodeType");
+		final Node grandChild1 = child1.addNode("grandChild1", "someNodeType");
+		final Node grandGrandChild1 = grandChild1.addNode("grandGrandChild1", "someNodeType");
+		final Node grandChild2 = child2.addNode("grandChild2", "someNodeType");
+
+		assertEquals(
+				List.of(child1, grandChild1, grandGrandChild1, child2),
+				nodeService.streamChildrenRecursive(node, NodeTraversal.depthFirst().descend(new NodeTypePredicate("someNodeType"))).collect(Collectors.toList())
+		);
+		assertEquals(
+				List.of(child1, child2, grandChild1, grandGrandChild1),
+				nodeService.streamChildrenRecursive(node, NodeTraversal.breadthFirst().descend(new NodeTypePredicate("someNodeType"))).collect(Collectors.toList())
+		);
+		assertEquals(
+				List.of(child1, grandChild1, child2, grandChild2),
+				nodeService.streamChildrenRecursive(node, NodeTraversal.depthFirst().maxDepth(2)).collect(Collectors.toList())
+		);
+		assertEquals(
+				List.of(child1, child2, grandChild1, grandChild2),
+				nodeService.streamChildrenRecursive(node, NodeTraversal.breadthFirst().maxDepth(2)).collect(Collectors.toList())
+		);
+		assertEquals(
+				List.of(child1, grandChild1),
+				nodeService.streamChildrenRecursive(node, NodeTraversal.depthFirst().terminateAfter(grandChild1::equals)).collect(Collectors.toList())
+		);
+		assertEquals(
+				List.of(child2, grandChild2),
+				nodeService.streamChildrenRecursive(node, NodeTraversal.depthFirst().descend(new NodeTypePredicate("someOtherNodeType")), new NodeTypePredicate("someOtherNodeType").or(grandChild2::equals)).collect(Collectors.toList())
+		);
+		assertThrows(IllegalArgumentException.class, () -> NodeTraversal.depthFirst().maxDepth(0));
+	}
+
+	@Test
+	void collectChildrenRecursiveParallel() throws RepositoryException {
+		jcrSessionProvider.mockSystem(session);
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		final Set<String> expected = new HashSet<>();
+		for (int i = 0; i < 4; i++) {
+			final Node child = node.addNode("child" + i, "someNodeType");
+			expected.add(child.getPath());
+			for (int j = 0; j < 4; j++) {
+				final Node grandChild = child.addNode("grandChild" + j, "someNodeType");
+				expected.add(grandChild.getPath());
+				expected.add(grandChild.addNode("grandGrandChild", "someOtherNodeType").getPath());
+			}
+		}
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			assertEquals(
+					expected,
+					nodeService.collectChildrenRecursiveParallel(node, NodeTraversal.depthFirst(), 1, executor, Collectors.mapping(child -> Exceptions.wrap().get(child::getPath), Collectors.toSet()))
+			);
+			assertEquals(
+					expected.stream().filter(path -> !path.endsWith("grandGrandChild")).collect(Collectors.toSet()),
+					nodeService.collectChildrenRecursiveParallel(node, NodeTraversal.depthFirst().maxDepth(2), 1, executor, Collectors.mapping(child -> Exceptions.wrap().get(child::getPath), Collectors.toSet()))
+			);
+			assertEquals(
+					16L,
+					nodeService.collectChildrenRecursiveParallel(node, NodeTraversal.depthFirst(), 2, executor, Collectors.filtering(new NodeTypePredicate("someOtherNodeType"), Collectors.counting()))
+			);
+			assertEquals(4 + 4 + 16, jcrSessionProvider.getSystemSessionReleases());
+			assertEquals(
+					expected.stream().filter(path -> path.matches("/node/child\\d")).collect(Collectors.toSet()),
+					nodeService.collectChildrenRecursiveParallel(node, NodeTraversal.depthFirst().maxDepth(1), 2, executor, Collectors.mapping(child -> Exceptions.wrap().get(child::getPath), Collectors.toSet()))
+			);
+			assertEquals(
+					expected.stream().filter(path -> !path.endsWith("grandGrandChild")).collect(Collectors.toSet()),
+					nodeService.collectChildrenRecursiveParallel(node, NodeTraversal.depthFirst().maxDepth(2), 2, executor, Collectors.mapping(child -> Exceptions.wrap().get(child::getPath), Collectors.toSet()))
+			);
+			assertEquals(4 + 4 + 16, jcrSessionProvider.getSystemSessionReleases());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void collectChildrenRecursiveParallel_callerRuns() throws RepositoryException {
+		jcrSessionProvider.mockSystem(session);
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		for (int i = 0; i < 4; i++) {
+			node.addNode("child" + i, "someNodeType").addNode("grandChild", "someNodeType");
+		}
+		// the only worker is busy, so all branches are run by the calling thread
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), new ThreadPoolExecutor.CallerRunsPolicy());
+		final CountDownLatch busy = new CountDownLatch(1);
+		executor.execute(() -> Exceptions.wrap().run(busy::await));
+		try {
+			assertEquals(
+					8L,
+					nodeService.collectChildrenRecursiveParallel(node, NodeTraversal.depthFirst(), 1, executor, Collectors.counting())
+			);
+			assertEquals(0, jcrSessionProvider.getSystemSessionReleases());
+		} finally {
+			busy.countDown();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void streamChildrenRecursive_deepTree() throws RepositoryException {
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		Node leaf = node;
+		for (int i = 0; i < 5000; i++) {
+			leaf = leaf.addNode("child", "someNodeType");
+		}
+		assertEquals(5000, nodeService.streamChildrenRecursive(node).count());
+		assertEquals(Optional.of(leaf), nodeService.streamChildrenRecursive(node).reduce((first, second) -> second));
+	}
+
 	@Test
 	void getParent() throws RepositoryException {
 		final Node node = session.getRootNode().addNode("node", "someNodeType");
@@ -311,6 +589,101 @@ class NodeServiceTest {
 		assertFalse(nodeService.hasProperty(node, "someKey", Locale.CANADA));
 	}
 
+	@Test
+	void property_fallbackChain() throws RepositoryException {
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		final List<Locale> locales = List.of(Locale.CANADA_FRENCH, Locale.FRENCH, Locale.ENGLISH);
+		nodeService.setProperty(node, "someKey", Locale.ENGLISH, "someEnglishValue", ValueConverter::toValue);
+		assertTrue(nodeService.hasProperty(node, "someKey", locales));
+		assertEquals(Optional.of("someEnglishValue"), nodeService.getProperty(node, "someKey", locales, ValueConverter::getString));
+
+		nodeService.setProperty(node, "someKey", Locale.FRENCH, "someFrenchValue", ValueConverter::toValue);
+		assertEquals(Optional.of("someFrenchValue"), nodeService.getProperty(node, "someKey", locales, ValueConverter::getString));
+
+		nodeService.setMultiProperty(node, "someMultiKey", Locale.CANADA_FRENCH, List.of("someValue", "someOtherValue"), ValueConverter::toValue);
+		assertEquals(
+				List.of("someValue", "someOtherValue"),
+				nodeService.streamMultiProperty(node, "someMultiKey", locales, ValueConverter::getString).collect(Collectors.toList())
+		);
+		assertFalse(nodeService.hasProperty(node, "someKey", List.of(Locale.GERMAN)));
+		assertEquals(Optional.empty(), nodeService.getProperty(node, "someKey", List.of(Locale.GERMAN), ValueConverter::getString));
+	}
+
+	@Test
+	void primitiveProperty() throws RepositoryException {
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		nodeService.setProperty(node, "someLong", 42L, ValueConverter::toValue);
+		nodeService.setProperty(node, "someDouble", 4.2d, ValueConverter::toValue);
+		nodeService.setProperty(node, "someBoolean", true, ValueConverter::toValue);
+		nodeService.setProperty(node, "someString", "someValue", ValueConverter::toValue);
+		assertEquals(42L, nodeService.getLongOrDefault(node, "someLong", -1L));
+		assertEquals(42, nodeService.getIntOrDefault(node, "someLong", -1));
+		assertEquals(4.2d, nodeService.getDoubleOrDefault(node, "someDouble", -1d));
+		assertTrue(nodeService.getBooleanOrDefault(node, "someBoolean", false));
+		assertEquals(OptionalLong.of(42L), nodeService.getOptionalLong(node, "someLong"));
+		assertEquals(OptionalDouble.of(4.2d), nodeService.getOptionalDouble(node, "someDouble"));
+
+		assertEquals(-1L, nodeService.getLongOrDefault(node, "someString", -1L));
+		assertEquals(-1L, nodeService.getLongOrDefault(node, "missing", -1L));
+		assertEquals(OptionalLong.empty(), nodeService.getOptionalLong(node, "missing"));
+		assertEquals(OptionalDouble.empty(), nodeService.getOptionalDouble(node, "someString"));
+	}
+
+	@Test
+	void primitiveProperty_localized() throws RepositoryException {
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		nodeService.setProperty(node, "someLong", Locale.CANADA, 42L, ValueConverter::toValue);
+		assertEquals(42L, nodeService.getLongOrDefault(node, "someLong", Locale.CANADA, -1L));
+		assertEquals(-1L, nodeService.getLongOrDefault(node, "someLong", -1L));
+		assertEquals(OptionalLong.of(42L), nodeService.getOptionalLong(node, "someLong", Locale.CANADA));
+	}
+
+	@Test
+	void binary() throws RepositoryException, IOException {
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		final byte[] payload = "someBinaryPayload".getBytes(StandardCharsets.UTF_8);
+		nodeService.setProperty(node, "someBinary", new BinaryImpl(payload), ValueConverter::toValue);
+
+		assertEquals(OptionalLong.of(payload.length), nodeService.getBinarySize(node, "someBinary"));
+		try (InputStream stream = nodeService.getBinaryStream(node, "someBinary").orElseThrow()) {
+			assertArrayEquals(payload, stream.readAllBytes());
+		}
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		assertEquals(OptionalLong.of(payload.length), nodeService.transferBinary(node, "someBinary", outputStream));
+		assertArrayEquals(payload, outputStream.toByteArray());
+
+		final ByteArrayOutputStream rangeOutputStream = new ByteArrayOutputStream();
+		assertEquals(OptionalLong.of(6), nodeService.transferBinary(node, "someBinary", 4, 6, rangeOutputStream));
+		assertEquals("Binary", rangeOutputStream.toString(StandardCharsets.UTF_8));
+		final byte[] buffer = new byte[7];
+		assertEquals(7, nodeService.readBinary(node, "someBinary", buffer, 10));
+		assertEquals("Payload", new String(buffer, StandardCharsets.UTF_8));
+
+		assertEquals(OptionalLong.empty(), nodeService.transferBinary(node, "missing", new ByteArrayOutputStream()));
+		assertEquals(-1, nodeService.readBinary(node, "missing", buffer, 0));
+	}
+
+	@Test
+	void setBinary(@TempDir final Path directory) throws RepositoryException, IOException, NoSuchAlgorithmException {
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		final byte[] payload = "someBinaryPayload".getBytes(StandardCharsets.UTF_8);
+		nodeService.setBinary(node, "someBinary", new ByteArrayInputStream(payload), BinaryDigest.sha256("someDigest"));
+		try (InputStream stream = nodeService.getBinaryStream(node, "someBinary").orElseThrow()) {
+			assertArrayEquals(payload, stream.readAllBytes());
+		}
+		assertEquals(
+				Optional.of(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload))),
+				nodeService.getProperty(node, "someDigest", ValueConverter::getString)
+		);
+
+		nodeService.setBinary(node, "otherBinary", Channels.newChannel(new ByteArrayInputStream(payload)));
+		assertEquals(OptionalLong.of(payload.length), nodeService.getBinarySize(node, "otherBinary"));
+
+		final Path file = Files.write(directory.resolve("payload.bin"), payload);
+		nodeService.setBinary(node, "fileBinary", file);
+		assertEquals(OptionalLong.of(payload.length), nodeService.getBinarySize(node, "fileBinary"));
+	}
+
 	@Test
 	void multiProperty() throws RepositoryException {
 		final Node node = session.getRootNode().addNode("node", "someNodeType");
@@ -338,6 +711,19 @@ class NodeServiceTest {
         assertFalse(nodeService.hasProperty(node, "someKey", Locale.CANADA));
 	}
 
+	@Test
+	void propertyBag_localized() throws RepositoryException {
+		final Node node = session.getRootNode().addNode("node", "someNodeType");
+		nodeService.setProperty(node, "someKey", "someValue", ValueConverter::toValue);
+		nodeService.setProperty(node, "someKey", Locale.CANADA, "someLocalizedValue", ValueConverter::toValue);
+		nodeService.setMultiProperty(node, "someMultiKey", Locale.CANADA, List.of("someValue", "someOtherValue"), ValueConverter::toValue);
+
+		final PropertyBag propertyBag = nodeService.getPropertyBag(node, Locale.CANADA, "someKey", "someMultiKey");
+		assertEquals(Optional.of("someLocalizedValue"), propertyBag.getProperty("someKey", ValueConverter::getString));
+		assertEquals(List.of("someValue", "someOtherValue"), propertyBag.streamMultiProperty("someMultiKey", ValueConverter::getString).collect(Collectors.toList()));
+		assertEquals(Optional.of("someValue"), nodeService.getPropertyBag(node, "someKey").getProperty("someKey", ValueConverter::getString));
+	}
+
 	@Test
 	void getWrapper() throws RepositoryException {
 		final Node node = session.getRootNode().addNode("node", "someNodeType");
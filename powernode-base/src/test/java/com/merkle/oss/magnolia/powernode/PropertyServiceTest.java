@@ -2,14 +2,30 @@ package com.merkle.oss.magnolia.powernode;
 
 import info.magnolia.test.mock.jcr.MockNode;
 import info.magnolia.test.mock.jcr.MockSession;
+import org.apache.jackrabbit.value.BinaryImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import javax.jcr.Binary;
 import javax.jcr.RepositoryException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -46,4 +62,50 @@ class PropertyServiceTest {
 		assertEquals(0, propertyService.streamMultiProperty(node, "someKey", ValueConverter::getString).count());
 
 	}
-}
\ No newline at end of file
+
+	@Test
+	void getPropertyBag() throws RepositoryException {
+		propertyService.setProperty(node, "someKey", "someValue", ValueConverter::toValue);
+		propertyService.setProperty(node, "someOtherKey", 42L, ValueConverter::toValue);
+		propertyService.setProperty(node, "notRequestedKey", "someValue", ValueConverter::toValue);
+		propertyService.setMultiProperty(node, "someMultiKey", List.of("someValue", "someOtherValue"), ValueConverter::toValue);
+
+		final PropertyBag propertyBag = propertyService.getPropertyBag(node, UnaryOperator.identity(), "someKey", "someOtherKey", "someMultiKey", "missingKey");
+		assertEquals(Set.of("someKey", "someOtherKey", "someMultiKey"), propertyBag.getPropertyNames());
+		assertEquals(Optional.of("someValue"), propertyBag.getProperty("someKey", ValueConverter::getString));
+		assertEquals(Optional.of(42), propertyBag.getProperty("someOtherKey", ValueConverter::getInteger));
+		assertEquals(List.of("someValue", "someOtherValue"), propertyBag.streamMultiProperty("someMultiKey", ValueConverter::getString).collect(Collectors.toList()));
+		assertFalse(propertyBag.hasProperty("notRequestedKey"));
+		assertFalse(propertyBag.hasProperty("missingKey"));
+		assertTrue(propertyBag.getProperty("missingKey", ValueConverter::getString).isEmpty());
+	}
+
+	@Test
+	void transferTo_file(@TempDir final Path directory) throws RepositoryException, IOException {
+		final byte[] payload = new byte[100 * 1024];
+		Arrays.fill(payload, (byte) 42);
+		// streamed payloads above 64kb are spooled to a temp file
+		final Binary binary = new BinaryImpl(new ByteArrayInputStream(payload));
+		try {
+			try (InputStream stream = binary.getStream()) {
+				assertInstanceOf(FileInputStream.class, stream);
+			}
+			final Path target = directory.resolve("target.bin");
+			try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+				assertEquals(payload.length, propertyService.transferTo(binary, channel));
+			}
+			assertArrayEquals(payload, Files.readAllBytes(target));
+		} finally {
+			binary.dispose();
+		}
+	}
+
+	@Test
+	void transferTo_stream() throws RepositoryException, IOException {
+		final byte[] payload = "somePayload".getBytes();
+		final Binary binary = new BinaryImpl(payload);
+		final ByteArrayOutputStream target = new ByteArrayOutputStream();
+		assertEquals(payload.length, propertyService.transferTo(binary, Channels.newChannel(target)));
+		assertArrayEquals(payload, target.toByteArray());
+	}
+}
@@ -48,4 +48,34 @@ class RepositoryExceptionDelegatorTest {
 
 		assertEquals(Optional.of(42), repositoryExceptionDelegator.get(() -> 42));
 	}
-}
\ No newline at end of file
+
+	@Test
+	void getOrElse() {
+		assertEquals("fallback", repositoryExceptionDelegator.getOrElse(() -> {
+			throw new RepositoryException("some repo exception");
+		}, "fallback"));
+		assertEquals("fallback", repositoryExceptionDelegator.getOrElse(() -> {
+			throw new RuntimeRepositoryException(new PathNotFoundException("some nested repo exception"));
+		}, "fallback"));
+		assertEquals("fallback", repositoryExceptionDelegator.getOrElse(() -> {
+			throw new RuntimeRepositoryException("some runtime repo exception");
+		}, "fallback"));
+		assertEquals("value", repositoryExceptionDelegator.getOrElse(() -> "value", "fallback"));
+
+		assertEquals(1L, repositoryExceptionDelegator.getLongOrElse(() -> {
+			throw new RepositoryException("some repo exception");
+		}, 1L));
+		assertEquals(42L, repositoryExceptionDelegator.getLongOrElse(() -> 42L, 1L));
+		assertEquals(1L, repositoryExceptionDelegator.getLongOrElse(() -> {
+			throw new RuntimeRepositoryException(new PathNotFoundException("some nested repo exception"));
+		}, 1L));
+		assertEquals(1d, repositoryExceptionDelegator.getDoubleOrElse(() -> {
+			throw new RepositoryException("some repo exception");
+		}, 1d));
+		assertEquals(42d, repositoryExceptionDelegator.getDoubleOrElse(() -> 42d, 1d));
+		assertTrue(repositoryExceptionDelegator.getBooleanOrElse(() -> {
+			throw new RepositoryException("some repo exception");
+		}, true));
+		assertFalse(repositoryExceptionDelegator.getBooleanOrElse(() -> false, true));
+	}
+}
@@ -0,0 +1,96 @@
+package com.merkle.oss.magnolia.powernode;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import info.magnolia.cms.beans.config.URI2RepositoryMapping;
+import info.magnolia.module.site.Site;
+import info.magnolia.module.site.SiteManager;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.jcr.Node;
+import javax.jcr.RepositoryException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.merkle.oss.magnolia.powernode.mock.MockSession;
+
+class SiteResolutionCacheTest {
+	private Site site1;
+	private Site site1Sub;
+	private Site fallbackSite;
+	private SiteManager siteManager;
+	private SiteResolutionCache siteResolutionCache;
+	private Node root;
+
+	@BeforeEach
+	void setUp() throws RepositoryException {
+		site1 = site("website", "/site1");
+		site1Sub = site("website", "/site1/sub/");
+		fallbackSite = site("website", "");
+		siteManager = mock(SiteManager.class);
+		doReturn(List.of(site1, site1Sub, fallbackSite)).when(siteManager).getSites();
+		doAnswer(invocation -> {
+			final String path = invocation.<Node>getArgument(0).getPath();
+			if (path.startsWith("/site1/sub")) {
+				return site1Sub;
+			}
+			if (path.startsWith("/site1")) {
+				return site1;
+			}
+			return fallbackSite;
+		}).when(siteManager).getAssignedSite(any(Node.class));
+		siteResolutionCache = new SiteResolutionCache(siteManager);
+		root = new MockSession("website").getRootNode();
+	}
+
+	@Test
+	void getAssignedSite() throws RepositoryException {
+		final Node site1Page = root.addNode("site1").addNode("page");
+		final Node site1SubPage = root.getNode("site1").addNode("sub").addNode("page");
+		final Node otherPage = root.addNode("other").addNode("page");
+
+		assertSame(site1, siteResolutionCache.getAssignedSite(site1Page));
+		assertSame(site1, siteResolutionCache.getAssignedSite(site1Page.addNode("component")));
+		assertSame(site1Sub, siteResolutionCache.getAssignedSite(site1SubPage));
+		assertSame(fallbackSite, siteResolutionCache.getAssignedSite(otherPage));
+		assertSame(fallbackSite, siteResolutionCache.getAssignedSite(otherPage.addNode("component")));
+		verify(siteManager, times(3)).getAssignedSite(any(Node.class));
+	}
+
+	@Test
+	void invalidate() throws RepositoryException {
+		final Node site1Page = root.addNode("site1").addNode("page");
+		assertSame(site1, siteResolutionCache.getAssignedSite(site1Page));
+		siteResolutionCache.invalidate();
+		assertSame(site1, siteResolutionCache.getAssignedSite(site1Page));
+		verify(siteManager, times(2)).getAssignedSite(any(Node.class));
+		verify(siteManager, times(2)).getSites();
+	}
+
+	@Test
+	void invalidate_whileResolving() throws RepositoryException {
+		final Node site1Page = root.addNode("site1").addNode("page");
+		doAnswer(invocation -> {
+			siteResolutionCache.invalidate();
+			return site1;
+		}).doReturn(site1).when(siteManager).getAssignedSite(any(Node.class));
+		assertSame(site1, siteResolutionCache.getAssignedSite(site1Page));
+		assertSame(site1, siteResolutionCache.getAssignedSite(site1Page));
+		assertSame(site1, siteResolutionCache.getAssignedSite(site1Page));
+		verify(siteManager, times(2)).getAssignedSite(any(Node.class));
+	}
+
+	private Site site(final String workspace, final String handlePrefix) {
+		final URI2RepositoryMapping mapping = mock(URI2RepositoryMapping.class);
+		doReturn(workspace).when(mapping).getRepository();
+		doReturn(handlePrefix).when(mapping).getHandlePrefix();
+		final Site site = mock(Site.class);
+		doReturn(Map.of(workspace, mapping)).when(site).getMappings();
+		return site;
+	}
+}
@@ -13,9 +13,12 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Date;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.jcr.Binary;
 import javax.jcr.RepositoryException;
+import javax.jcr.Value;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.jackrabbit.commons.SimpleValueFactory;
@@ -259,6 +262,45 @@ class ValueConverterTest {
 		);
 	}
 
+	@Test
+	void cachingFactory() {
+		final ValueConverter.Factory factory = new ValueConverter.CachingFactory(valueFactory -> new ValueConverter(valueFactory, zoneIdProvider));
+		final SimpleValueFactory valueFactory = new SimpleValueFactory();
+		final SimpleValueFactory otherValueFactory = new SimpleValueFactory();
+		final ValueConverter valueConverter = factory.create(valueFactory);
+		assertSame(valueConverter, factory.create(valueFactory));
+		final ValueConverter otherValueConverter = factory.create(otherValueFactory);
+		assertNotSame(valueConverter, otherValueConverter);
+		assertSame(otherValueConverter, factory.create(otherValueFactory));
+	}
+
+	@Test
+	void zoneIdResolvedOnce() throws RepositoryException {
+		final AtomicInteger zoneIdLookups = new AtomicInteger();
+		final ValueConverter valueConverter = new ValueConverter(new SimpleValueFactory(), () -> {
+			zoneIdLookups.incrementAndGet();
+			return ZoneId.of("Europe/Zurich");
+		});
+		final LocalDateTime input = LocalDateTime.of(2023, Month.NOVEMBER, 6, 7, 45);
+		final Value value = valueConverter.toValue(input).orElseThrow();
+		assertEquals(Optional.of(input), valueConverter.getLocalDateTime(value));
+		assertEquals(Optional.of(input.toLocalDate()), valueConverter.getLocalDate(value));
+		assertEquals(Optional.of(input.atZone(ZoneId.of("Europe/Zurich"))), valueConverter.getZonedDateTime(value));
+		assertEquals(1, zoneIdLookups.get());
+	}
+
+	@Test
+	void cachingFactory_zoneIdResolvedPerConversion() throws RepositoryException {
+		final AtomicReference<ZoneId> zoneId = new AtomicReference<>(ZoneId.of("Europe/Zurich"));
+		final ValueConverter valueConverter = new ValueConverter.CachingFactory(valueFactory -> new ValueConverter(valueFactory, zoneId::get)).create(new SimpleValueFactory());
+		final LocalDateTime input = LocalDateTime.of(2023, Month.NOVEMBER, 6, 7, 45);
+		final Value value = valueConverter.toValue(input).orElseThrow();
+		assertEquals(Optional.of(input), valueConverter.getLocalDateTime(value));
+		zoneId.set(ZoneId.of("UTC"));
+		assertEquals(Optional.of(input.minusHours(1)), valueConverter.getLocalDateTime(value));
+		assertEquals(Optional.of(input.atZone(ZoneId.of("Europe/Zurich")).withZoneSameInstant(ZoneId.of("UTC"))), valueConverter.getZonedDateTime(value));
+	}
+
 	private <T> T getOrThrow(final ExceptionalProvider<T> provider) {
 		try {
 			return provider.get();
@@ -0,0 +1,132 @@
+package com.merkle.oss.magnolia.powernode.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import javax.jcr.Node;
+import javax.jcr.RepositoryException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.merkle.oss.magnolia.powernode.BulkWriter;
+import com.merkle.oss.magnolia.powernode.NodeService;
+import com.merkle.oss.magnolia.powernode.PropertyService;
+import com.merkle.oss.magnolia.powernode.ValueConverter;
+import com.merkle.oss.magnolia.powernode.mock.JcrSessionProviderMock;
+import com.merkle.oss.magnolia.powernode.mock.LocalizedNameProviderMock;
+import com.merkle.oss.magnolia.powernode.mock.MockSession;
+
+class ContentImporterTest {
+	private ExecutorService executor;
+	private NodeService nodeService;
+	private ContentImporter.Factory factory;
+	private Node root;
+
+	@BeforeEach
+	void setUp() throws RepositoryException {
+		executor = Executors.newSingleThreadExecutor();
+		nodeService = new NodeService(
+				new LocalizedNameProviderMock(),
+				null,
+				new JcrSessionProviderMock(),
+				new PropertyService(valueFactory -> new ValueConverter(valueFactory, ZoneId::systemDefault))
+		);
+		factory = new ContentImporter.Factory(nodeService, new BulkWriter.Factory(nodeService));
+		root = new MockSession("website").getRootNode();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void importRecords() {
+		final List<BulkWriter.Progress> progress = new ArrayList<>();
+		final ContentImporter importer = factory.builder(root, "mgnl:content", record -> "products/" + record.getString("id").orElseThrow(), executor)
+				.withProperty("title", record -> record.getString("title"), ValueConverter::toValue)
+				.withProperty("price", record -> record.getDecimal("price"), ValueConverter::toValue)
+				.withMultiProperty("tags", record -> record.getStrings("tags"), ValueConverter::toValue)
+				.withQueueCapacity(1)
+				.withWriter(writer -> writer.withMaxBatchNodes(2).withProgressListener(progress::add))
+				.build();
+
+		assertEquals(3, importer.importRecords(new JsonLinesRecordReader(new StringReader(
+				"{\"id\": \"p1\", \"title\": \"Product 1\", \"price\": 12.5, \"tags\": [\"a\", \"b\"]}\n" +
+				"{\"id\": \"p2\", \"title\": \"Product 2\"}\n" +
+				"{\"id\": \"p3\", \"price\": 3}\n"
+		))));
+		assertEquals(2, progress.size());
+		assertEquals(3, progress.get(1).getNodes());
+
+		final Node p1 = nodeService.getChild(root, "products/p1").orElseThrow();
+		assertEquals(Optional.of("Product 1"), nodeService.getProperty(p1, "title", ValueConverter::getString));
+		assertEquals(Optional.of(new BigDecimal("12.5")), nodeService.getProperty(p1, "price", ValueConverter::getDecimal));
+		assertEquals(List.of("a", "b"), nodeService.streamMultiProperty(p1, "tags", ValueConverter::getString).collect(Collectors.toList()));
+		final Node p3 = nodeService.getChild(root, "products/p3").orElseThrow();
+		assertEquals(Optional.of(new BigDecimal("3")), nodeService.getProperty(p3, "price", ValueConverter::getDecimal));
+	}
+
+	@Test
+	void importRecords_csv() {
+		final ContentImporter importer = factory.builder(root, "mgnl:content", record -> record.getString("id").orElseThrow(), executor)
+				.withProperty("title", record -> record.getString("title"), ValueConverter::toValue)
+				.build();
+
+		assertEquals(2, importer.importRecords(new CsvRecordReader(new StringReader("id;title\np1;\"Product; 1\"\np2;\n"), ';')));
+		assertEquals(Optional.of("Product; 1"), nodeService.getChild(root, "p1").flatMap(node -> nodeService.getProperty(node, "title", ValueConverter::getString)));
+		assertTrue(nodeService.getChild(root, "p2").isPresent());
+	}
+
+	@Test
+	void importRecords_invalidInput() {
+		final ContentImporter importer = factory.builder(root, "mgnl:content", record -> record.getString("id").orElseThrow(), executor).build();
+
+		final UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> importer.importRecords(new JsonLinesRecordReader(new StringReader(
+				"{\"id\": \"p1\"}\n" +
+				"{\"id\": }\n"
+		))));
+		assertEquals("Failed to read record 2", e.getMessage());
+	}
+
+	@Test
+	void importRecords_readerError() {
+		final ContentImporter importer = factory.builder(root, "mgnl:content", record -> record.getString("id").orElseThrow(), executor).build();
+
+		final UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> importer.importRecords(new RecordReader() {
+			@Override
+			public Optional<ImportRecord> read() {
+				throw new OutOfMemoryError("Java heap space");
+			}
+
+			@Override
+			public void close() {
+			}
+		}));
+		assertEquals("Failed to read record 1", e.getMessage());
+		assertInstanceOf(OutOfMemoryError.class, e.getCause().getCause());
+	}
+
+	@Test
+	void importRecords_interrupted() {
+		final ContentImporter importer = factory.builder(root, "mgnl:content", record -> record.getString("id").orElseThrow(), executor).build();
+
+		Thread.currentThread().interrupt();
+		final IllegalStateException e = assertThrows(IllegalStateException.class, () -> importer.importRecords(new JsonLinesRecordReader(new StringReader("{\"id\": \"p1\"}\n"))));
+		assertTrue(Thread.interrupted());
+		assertEquals("Interrupted while importing record 1", e.getMessage());
+		assertTrue(nodeService.getChild(root, "p1").isEmpty());
+	}
+}
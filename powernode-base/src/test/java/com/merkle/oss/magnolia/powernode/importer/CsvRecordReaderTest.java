@@ -0,0 +1,36 @@
+package com.merkle.oss.magnolia.powernode.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class CsvRecordReaderTest {
+
+	@Test
+	void read() throws IOException {
+		final RecordReader reader = new CsvRecordReader(new StringReader(
+				"id,title,description\r\n" +
+				"1,\"a, b\",\"multi\nline \"\"quoted\"\"\"\r\n" +
+				"\r\n" +
+				"2,,x\n" +
+				"3"
+		));
+		assertEquals(Map.of("id", "1", "title", "a, b", "description", "multi\nline \"quoted\""), reader.read().orElseThrow().getFields());
+		assertEquals(Map.of("id", "2", "description", "x"), reader.read().orElseThrow().getFields());
+		final ImportRecord last = reader.read().orElseThrow();
+		assertEquals(Map.of("id", "3"), last.getFields());
+		assertEquals(3, last.getNumber());
+		assertEquals(Optional.empty(), reader.read());
+	}
+
+	@Test
+	void read_invalid() {
+		assertThrows(IOException.class, () -> new CsvRecordReader(new StringReader("id\n1,2")).read());
+		assertThrows(IOException.class, () -> new CsvRecordReader(new StringReader("id\n\"1")).read());
+	}
+}
@@ -0,0 +1,104 @@
+package com.merkle.oss.magnolia.powernode.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class JsonLinesRecordReaderTest {
+
+	@Test
+	void read() throws IOException {
+		final RecordReader reader = new JsonLinesRecordReader(new StringReader(
+				"{\"string\": \"a\\\"b\\u00e4\\n\", \"long\": -3, \"decimal\": 1.5e2, \"big\": 123456789012345678901234, \"boolean\": true, \"null\": null, \"array\": [1, \"x\", null], \"object\": {\"key\": []}}\n" +
+				"\n" +
+				"{}"
+		));
+		final ImportRecord record = reader.read().orElseThrow();
+		final Map<String, Object> expected = new LinkedHashMap<>();
+		expected.put("string", "a\"bä\n");
+		expected.put("long", -3L);
+		expected.put("decimal", new BigDecimal("1.5e2"));
+		expected.put("big", new BigDecimal("123456789012345678901234"));
+		expected.put("boolean", true);
+		expected.put("null", null);
+		expected.put("array", Arrays.asList(1L, "x", null));
+		expected.put("object", Map.of("key", List.of()));
+		assertEquals(expected, record.getFields());
+		assertEquals(1, record.getNumber());
+		assertEquals(Optional.of(-3L), record.getLong("long"));
+		assertEquals(Optional.empty(), record.get("null"));
+		assertEquals(List.of("1", "x"), record.getStrings("array"));
+		assertEquals(2, reader.read().orElseThrow().getNumber());
+		assertEquals(Optional.empty(), reader.read());
+	}
+
+	@Test
+	void read_invalid() {
+		assertEquals(
+				"Unexpected character at line 2, column 8",
+				assertThrows(IOException.class, () -> {
+					final RecordReader reader = new JsonLinesRecordReader(new StringReader("{}\n{\"id\": }"));
+					reader.read();
+					reader.read();
+				}).getMessage()
+		);
+		assertThrows(IOException.class, () -> new JsonLinesRecordReader(new StringReader("[1, 2]")).read());
+		assertThrows(IOException.class, () -> new JsonLinesRecordReader(new StringReader("{\"id\": \"1\"} x")).read());
+	}
+
+	@Test
+	void read_escapes() throws IOException {
+		final ImportRecord record = new JsonLinesRecordReader(new StringReader(
+				"{\"escapes\": \"\\\\ \\/ \\b\\f\\r\\t\", \"unicode\": \"\\u00E9\\u0000\", \"surrogates\": \"\\ud83d\\ude00\", \"raw\": \"\u00e4\ud83d\ude00\"}"
+		)).read().orElseThrow();
+		assertEquals(Optional.of("\\ / \b\f\r\t"), record.getString("escapes"));
+		assertEquals(Optional.of("\u00e9\u0000"), record.getString("unicode"));
+		assertEquals(Optional.of("\ud83d\ude00"), record.getString("surrogates"));
+		assertEquals(Optional.of("\u00e4\ud83d\ude00"), record.getString("raw"));
+	}
+
+	@Test
+	void read_nested() throws IOException {
+		final String nested = "[".repeat(511) + "]".repeat(511);
+		final ImportRecord record = new JsonLinesRecordReader(new StringReader("{\"nested\": " + nested + ", \"next\": {\"a\": [{\"b\": [true]}]}}")).read().orElseThrow();
+		Object value = record.getFields().get("nested");
+		for (int i = 1; i < 511; i++) {
+			value = ((List<?>) value).get(0);
+		}
+		assertEquals(List.of(), value);
+		assertEquals(Map.of("a", List.of(Map.of("b", List.of(true)))), record.getFields().get("next"));
+
+		assertEquals(
+				"Maximum nesting depth of 512 exceeded at line 1, column 523",
+				assertThrows(IOException.class, () -> new JsonLinesRecordReader(new StringReader("{\"nested\": " + "[".repeat(512) + "]".repeat(512) + "}")).read()).getMessage()
+		);
+	}
+
+	@Test
+	void read_malformed() {
+		assertMalformed("Unterminated string at line 1, column 11", "{\"id\": \"1}");
+		assertMalformed("Unterminated string at line 1, column 11", "{\"id\": \"1\\");
+		assertMalformed("Invalid escape at line 1, column 10", "{\"id\": \"\\x\"}");
+		assertMalformed("Invalid unicode escape at line 1, column 11", "{\"id\": \"\\u+0e9\"}");
+		assertMalformed("Invalid unicode escape at line 1, column 13", "{\"id\": \"\\u00\"}");
+		assertMalformed("Expected field name at line 1, column 11", "{\"id\": 1, }");
+		assertMalformed("Unexpected character at line 1, column 12", "{\"id\": [1, ]}");
+		assertMalformed("Expected '}' at line 1, column 9", "{\"id\": 1");
+		assertMalformed("Expected ':' at line 1, column 7", "{\"id\" 1}");
+		assertMalformed("Unexpected literal at line 1, column 8", "{\"id\": nul}");
+		assertMalformed("Unexpected end of line at line 1, column 7", "{\"id\":");
+	}
+
+	private void assertMalformed(final String message, final String line) {
+		assertEquals(message, assertThrows(IOException.class, () -> new JsonLinesRecordReader(new StringReader(line)).read()).getMessage());
+	}
+}
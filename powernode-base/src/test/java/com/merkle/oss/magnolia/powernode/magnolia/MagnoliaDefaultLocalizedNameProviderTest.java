@@ -18,11 +18,12 @@ import static org.mockito.Mockito.mock;
 import javax.jcr.Node;
 
 class MagnoliaDefaultLocalizedNameProviderTest {
+	private I18nContentSupport i18nContentSupport;
 	private LocalizedNameProvider localizedNameProvider;
 
 	@BeforeEach
 	void setUp() {
-		final I18nContentSupport i18nContentSupport = mock(I18nContentSupport.class);
+		i18nContentSupport = mock(I18nContentSupport.class);
 		doReturn(Locale.CANADA).when(i18nContentSupport).getDefaultLocale();
 		final Site site = mock(Site.class);
 		doReturn(i18nContentSupport).when(site).getI18n();
@@ -43,6 +44,23 @@ class MagnoliaDefaultLocalizedNameProviderTest {
 		);
 	}
 
+	@Test
+	void getLocalizedPropertyName_defaultLocaleChanged() {
+		assertEquals(
+				"someKey_fr_CA",
+				localizedNameProvider.getLocalizedPropertyName(mock(Node.class), "someKey", Locale.CANADA_FRENCH)
+		);
+		doReturn(Locale.CANADA_FRENCH).when(i18nContentSupport).getDefaultLocale();
+		assertEquals(
+				"someKey",
+				localizedNameProvider.getLocalizedPropertyName(mock(Node.class), "someKey", Locale.CANADA_FRENCH)
+		);
+		assertEquals(
+				"someKey_en_CA",
+				localizedNameProvider.getLocalizedPropertyName(mock(Node.class), "someKey", Locale.CANADA)
+		);
+	}
+
 	@Test
 	void getLocalizedNodeName() {
 		assertEquals(
@@ -0,0 +1,61 @@
+package com.merkle.oss.magnolia.powernode.magnolia;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import info.magnolia.cms.i18n.I18nContentSupport;
+import info.magnolia.module.site.Site;
+import info.magnolia.module.site.SiteManager;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.jcr.Node;
+import javax.jcr.RepositoryException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.merkle.oss.magnolia.powernode.LocaleFallbackChainProvider;
+import com.merkle.oss.magnolia.powernode.SiteResolutionCache;
+import com.merkle.oss.magnolia.powernode.mock.MockSession;
+
+class MagnoliaLocaleFallbackChainProviderTest {
+	private I18nContentSupport siteI18nContentSupport;
+	private LocaleFallbackChainProvider localeFallbackChainProvider;
+	private Node node;
+
+	@BeforeEach
+	void setUp() throws RepositoryException {
+		siteI18nContentSupport = mock(I18nContentSupport.class);
+		doReturn(Locale.ENGLISH).when(siteI18nContentSupport).getDefaultLocale();
+		final Site site = mock(Site.class);
+		doReturn(siteI18nContentSupport).when(site).getI18n();
+		doReturn(Map.of()).when(site).getMappings();
+		final SiteManager siteManager = mock(SiteManager.class);
+		doReturn(site).when(siteManager).getAssignedSite(any(Node.class));
+		doReturn(List.of(site)).when(siteManager).getSites();
+		localeFallbackChainProvider = new MagnoliaLocaleFallbackChainProvider(new SiteResolutionCache(siteManager), mock(I18nContentSupport.class));
+		node = new MockSession("website").getRootNode().addNode("page");
+	}
+
+	@Test
+	void getLocales() {
+		assertEquals(
+				List.of(Locale.CANADA_FRENCH, Locale.FRENCH, Locale.ENGLISH),
+				localeFallbackChainProvider.getLocales(node, Locale.CANADA_FRENCH)
+		);
+		assertEquals(
+				List.of(Locale.ENGLISH),
+				localeFallbackChainProvider.getLocales(node, Locale.ENGLISH)
+		);
+		doReturn(Locale.GERMAN).when(siteI18nContentSupport).getFallbackLocale();
+		assertEquals(
+				List.of(Locale.CANADA_FRENCH, Locale.FRENCH, Locale.GERMAN, Locale.ENGLISH),
+				localeFallbackChainProvider.getLocales(node, Locale.CANADA_FRENCH)
+		);
+	}
+}
@@ -5,10 +5,12 @@ import com.merkle.oss.magnolia.powernode.JcrSessionProvider;
 import javax.jcr.Session;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class JcrSessionProviderMock implements JcrSessionProvider {
 	private final Map<String, Session> mocks = new HashMap<>();
 	private final Map<String, Session> systemMocks = new HashMap<>();
+	private final AtomicInteger systemSessionReleases = new AtomicInteger();
 
 	public void mock(final Session session) {
 		mocks.put(session.getWorkspace().getName(), session);
@@ -33,4 +35,13 @@ public class JcrSessionProviderMock implements JcrSessionProvider {
 		}
 		throw new IllegalStateException(workspace + " not mocked!");
 	}
+
+	@Override
+	public void releaseSystemSessions() {
+		systemSessionReleases.incrementAndGet();
+	}
+
+	public int getSystemSessionReleases() {
+		return systemSessionReleases.get();
+	}
 }
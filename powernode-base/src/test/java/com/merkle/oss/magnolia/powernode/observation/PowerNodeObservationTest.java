@@ -0,0 +1,173 @@
+package com.merkle.oss.magnolia.powernode.observation;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.jcr.RepositoryException;
+import javax.jcr.Session;
+import javax.jcr.Workspace;
+import javax.jcr.observation.Event;
+import javax.jcr.observation.EventListener;
+import javax.jcr.observation.ObservationManager;
+
+import org.apache.jackrabbit.commons.iterator.EventIteratorAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.merkle.oss.magnolia.powernode.NodeService;
+import com.merkle.oss.magnolia.powernode.PropertyService;
+import com.merkle.oss.magnolia.powernode.ValueConverter;
+import com.merkle.oss.magnolia.powernode.mock.JcrSessionProviderMock;
+import com.merkle.oss.magnolia.powernode.mock.LocalizedNameProviderMock;
+import com.merkle.oss.magnolia.powernode.mock.MockPowerNode;
+
+class PowerNodeObservationTest {
+	private ScheduledExecutorService executor;
+	private ObservationManager observationManager;
+	private PowerNodeObservation<MockPowerNode> observation;
+
+	@BeforeEach
+	void setUp() throws RepositoryException {
+		observationManager = mock(ObservationManager.class);
+		final Workspace workspace = mock(Workspace.class);
+		doReturn("website").when(workspace).getName();
+		doReturn(observationManager).when(workspace).getObservationManager();
+		final Session session = mock(Session.class);
+		doReturn(workspace).when(session).getWorkspace();
+		final JcrSessionProviderMock jcrSessionProvider = new JcrSessionProviderMock();
+		jcrSessionProvider.mockSystem(session);
+		executor = Executors.newSingleThreadScheduledExecutor();
+		observation = new PowerNodeObservation<>(
+				new NodeService(
+						new LocalizedNameProviderMock(),
+						null,
+						jcrSessionProvider,
+						new PropertyService(valueFactory -> new ValueConverter(valueFactory, ZoneId::systemDefault))
+				),
+				new MockPowerNode.MockPowerNodeDecorator(),
+				executor
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void subscribe_registration() {
+		final List<String> calls = new ArrayList<>();
+		final JcrSessionProviderMock jcrSessionProvider = new JcrSessionProviderMock() {
+			@Override
+			public EventListenerRegistration addEventListener(final String workspace, final String path, final boolean subNodes, final int eventTypes, final EventListener listener) {
+				calls.add("register " + workspace + ":" + path);
+				return () -> calls.add("unregister");
+			}
+		};
+		final PowerNodeObservation<MockPowerNode> observation = new PowerNodeObservation<>(
+				new NodeService(
+						new LocalizedNameProviderMock(),
+						null,
+						jcrSessionProvider,
+						new PropertyService(valueFactory -> new ValueConverter(valueFactory, ZoneId::systemDefault))
+				),
+				new MockPowerNode.MockPowerNodeDecorator(),
+				executor
+		);
+		observation.observe("website", "/node").subscribe(changeSet -> {}).unregister();
+		assertEquals(List.of("register website:/node", "unregister"), calls);
+		verifyNoInteractions(observationManager);
+	}
+
+	@Test
+	void subscribe() throws RepositoryException, InterruptedException {
+		final BlockingQueue<ChangeSet<MockPowerNode>> changeSets = new LinkedBlockingQueue<>();
+		final PowerNodeObservation.Registration registration = observation.observe("website", "/")
+				.withWindow(Duration.ofMillis(50))
+				.subscribe(changeSets::add);
+		final EventListener listener = getListener();
+
+		listener.onEvent(new EventIteratorAdapter(List.of(
+				event(Event.NODE_ADDED, "/node", "1"),
+				event(Event.PROPERTY_ADDED, "/node/title", "1"),
+				event(Event.PROPERTY_CHANGED, "/node/title", "1")
+		)));
+		listener.onEvent(new EventIteratorAdapter(List.of(
+				event(Event.PROPERTY_REMOVED, "/node/text", "1"),
+				event(Event.NODE_REMOVED, "/other", "2")
+		)));
+
+		final ChangeSet<MockPowerNode> changeSet = changeSets.poll(5, TimeUnit.SECONDS);
+		assertNotNull(changeSet);
+		assertEquals("website", changeSet.getWorkspace());
+		assertEquals(2, changeSet.getChanges().size());
+		final NodeChange node = changeSet.getChanges().get(0);
+		assertEquals("/node", node.getPath());
+		assertEquals("1", node.getIdentifier().orElseThrow());
+		assertTrue(node.isAdded());
+		assertTrue(node.hasEventType(Event.PROPERTY_CHANGED));
+		assertEquals(Set.of("title", "text"), node.getPropertyNames());
+		assertTrue(changeSet.getChanges().get(1).isRemoved());
+		assertNull(changeSets.poll(200, TimeUnit.MILLISECONDS));
+
+		registration.unregister();
+		verify(observationManager).removeEventListener(listener);
+	}
+
+	@Test
+	void subscribe_maxDelay() throws RepositoryException, InterruptedException {
+		final BlockingQueue<ChangeSet<MockPowerNode>> changeSets = new LinkedBlockingQueue<>();
+		observation.observe("website", "/")
+				.withWindow(Duration.ofSeconds(10))
+				.withMaxDelay(Duration.ofMillis(100))
+				.subscribe(changeSets::add);
+		getListener().onEvent(new EventIteratorAdapter(List.of(event(Event.PROPERTY_CHANGED, "/node/title", "1"))));
+		assertNotNull(changeSets.poll(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void subscribe_moved() throws RepositoryException, InterruptedException {
+		final BlockingQueue<ChangeSet<MockPowerNode>> changeSets = new LinkedBlockingQueue<>();
+		observation.observe("website", "/")
+				.withWindow(Duration.ofMillis(50))
+				.subscribe(changeSets::add);
+		final Event moved = event(Event.NODE_MOVED, "/new", "1");
+		doReturn(Map.of("srcAbsPath", "/old")).when(moved).getInfo();
+		getListener().onEvent(new EventIteratorAdapter(List.of(moved)));
+
+		final ChangeSet<MockPowerNode> changeSet = changeSets.poll(5, TimeUnit.SECONDS);
+		assertNotNull(changeSet);
+		assertTrue(changeSet.getChanges().get(0).isMoved());
+		assertEquals("/old", changeSet.getChanges().get(1).getPath());
+		assertTrue(changeSet.getChanges().get(1).isRemoved());
+	}
+
+	private EventListener getListener() throws RepositoryException {
+		final ArgumentCaptor<EventListener> listener = ArgumentCaptor.forClass(EventListener.class);
+		verify(observationManager).addEventListener(listener.capture(), anyInt(), eq("/"), eq(true), isNull(), isNull(), eq(false));
+		return listener.getValue();
+	}
+
+	private Event event(final int type, final String path, final String identifier) throws RepositoryException {
+		final Event event = mock(Event.class);
+		doReturn(type).when(event).getType();
+		doReturn(path).when(event).getPath();
+		doReturn(identifier).when(event).getIdentifier();
+		return event;
+	}
+}
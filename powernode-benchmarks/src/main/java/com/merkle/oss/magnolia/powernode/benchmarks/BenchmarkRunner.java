@@ -0,0 +1,24 @@
+package com.merkle.oss.magnolia.powernode.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the gc profiler attached, so every result reports the allocation rate per operation (gc.alloc.rate.norm).<br>
+ * Accepts the default jmh command line options, e.g. {@code java -jar benchmarks.jar NodeServiceBenchmark -p depth=4}
+ */
+public class BenchmarkRunner {
+
+	public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+		final Options options = new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
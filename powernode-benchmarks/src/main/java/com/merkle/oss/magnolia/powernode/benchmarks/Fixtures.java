@@ -0,0 +1,113 @@
+package com.merkle.oss.magnolia.powernode.benchmarks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import info.magnolia.cms.i18n.I18nContentSupport;
+import info.magnolia.jcr.util.NodeNameHelper;
+import info.magnolia.module.site.Site;
+import info.magnolia.module.site.SiteManager;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.jcr.Node;
+import javax.jcr.RepositoryException;
+
+import com.merkle.oss.magnolia.powernode.LocalizedNameProvider;
+import com.merkle.oss.magnolia.powernode.NodeMemoProvider;
+import com.merkle.oss.magnolia.powernode.NodeService;
+import com.merkle.oss.magnolia.powernode.PropertyService;
+import com.merkle.oss.magnolia.powernode.SiteResolutionCache;
+import com.merkle.oss.magnolia.powernode.ValueConverter;
+import com.merkle.oss.magnolia.powernode.magnolia.MagnoliaDefaultLocalizedNameProvider;
+import com.merkle.oss.magnolia.powernode.magnolia.MagnoliaLanguageLocalizedNameProvider;
+import com.merkle.oss.magnolia.powernode.mock.JcrSessionProviderMock;
+import com.merkle.oss.magnolia.powernode.mock.MockSession;
+
+/**
+ * Shared setup on top of the in-memory mock repository of powernode-base.<br>
+ * Site and i18n lookups are mockito mocks, so their (constant) dispatch cost is part of every localized measurement.
+ */
+final class Fixtures {
+	static final String WORKSPACE = "website";
+	static final Locale DEFAULT_LOCALE = Locale.ENGLISH;
+
+	private Fixtures() {
+	}
+
+	static NodeService nodeService() {
+		return nodeService(defaultLocalizedNameProvider());
+	}
+
+	static NodeService nodeService(final LocalizedNameProvider localizedNameProvider) {
+		return nodeService(localizedNameProvider, NodeMemoProvider.NONE);
+	}
+
+	static NodeService nodeService(final LocalizedNameProvider localizedNameProvider, final NodeMemoProvider nodeMemoProvider) {
+		final NodeNameHelper nodeNameHelper = mock(NodeNameHelper.class);
+		doAnswer(invocationOnMock -> invocationOnMock.getArgument(0)).when(nodeNameHelper).getValidatedName(anyString());
+		final JcrSessionProviderMock jcrSessionProvider = new JcrSessionProviderMock();
+		jcrSessionProvider.mock(new MockSession(WORKSPACE));
+		jcrSessionProvider.mockSystem(new MockSession(WORKSPACE));
+		return new NodeService(
+				localizedNameProvider,
+				nodeNameHelper,
+				jcrSessionProvider,
+				new PropertyService(valueConverterFactory(), nodeMemoProvider)
+		);
+	}
+
+	static ValueConverter.Factory valueConverterFactory() {
+		return valueFactory -> new ValueConverter(valueFactory, ZoneId::systemDefault);
+	}
+
+	static LocalizedNameProvider defaultLocalizedNameProvider() {
+		return new MagnoliaDefaultLocalizedNameProvider(siteManager(), i18nContentSupport());
+	}
+
+	static LocalizedNameProvider languageLocalizedNameProvider() {
+		return new MagnoliaLanguageLocalizedNameProvider(siteManager(), i18nContentSupport());
+	}
+
+	/**
+	 * Resolves the site once per path prefix instead of asking the site manager per call.
+	 */
+	static LocalizedNameProvider siteResolutionCachingLocalizedNameProvider() {
+		return new MagnoliaDefaultLocalizedNameProvider(new SiteResolutionCache(siteManager()), i18nContentSupport());
+	}
+
+	private static SiteManager siteManager() {
+		final Site site = mock(Site.class);
+		doReturn(i18nContentSupport()).when(site).getI18n();
+		doReturn(Map.of()).when(site).getMappings();
+		final SiteManager siteManager = mock(SiteManager.class);
+		doReturn(site).when(siteManager).getAssignedSite(any(Node.class));
+		doReturn(List.of(site)).when(siteManager).getSites();
+		return siteManager;
+	}
+
+	private static I18nContentSupport i18nContentSupport() {
+		final I18nContentSupport i18nContentSupport = mock(I18nContentSupport.class);
+		doReturn(DEFAULT_LOCALE).when(i18nContentSupport).getDefaultLocale();
+		return i18nContentSupport;
+	}
+
+	/**
+	 * Adds a node with {@code depth} levels of {@code childrenPerNode} children below it.
+	 */
+	static Node addTree(final Node parent, final String name, final int depth, final int childrenPerNode) throws RepositoryException {
+		final Node node = parent.addNode(name, "mgnl:page");
+		if (depth > 0) {
+			for (int i = 0; i < childrenPerNode; i++) {
+				addTree(node, name + i, depth - 1, childrenPerNode);
+			}
+		}
+		return node;
+	}
+}
@@ -0,0 +1,67 @@
+package com.merkle.oss.magnolia.powernode.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import javax.jcr.Node;
+import javax.jcr.RepositoryException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.merkle.oss.magnolia.powernode.LocalizedNameProvider;
+import com.merkle.oss.magnolia.powernode.mock.MockSession;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocalizedNameProviderBenchmark {
+	private LocalizedNameProvider defaultLocalizedNameProvider;
+	private LocalizedNameProvider languageLocalizedNameProvider;
+	private LocalizedNameProvider siteResolutionCachingLocalizedNameProvider;
+	private Node node;
+
+	@Setup
+	public void setUp() throws RepositoryException {
+		defaultLocalizedNameProvider = Fixtures.defaultLocalizedNameProvider();
+		languageLocalizedNameProvider = Fixtures.languageLocalizedNameProvider();
+		siteResolutionCachingLocalizedNameProvider = Fixtures.siteResolutionCachingLocalizedNameProvider();
+		node = new MockSession(Fixtures.WORKSPACE).getRootNode().addNode("component", "mgnl:component");
+	}
+
+	@Benchmark
+	public String default_defaultLocale() {
+		return defaultLocalizedNameProvider.getLocalizedPropertyName(node, "title", Fixtures.DEFAULT_LOCALE);
+	}
+
+	@Benchmark
+	public String default_otherLocale() {
+		return defaultLocalizedNameProvider.getLocalizedPropertyName(node, "title", Locale.GERMANY);
+	}
+
+	@Benchmark
+	public String language_defaultLocale() {
+		return languageLocalizedNameProvider.getLocalizedPropertyName(node, "title", Fixtures.DEFAULT_LOCALE);
+	}
+
+	@Benchmark
+	public String language_otherLocale() {
+		return languageLocalizedNameProvider.getLocalizedPropertyName(node, "title", Locale.GERMANY);
+	}
+
+	@Benchmark
+	public String siteResolutionCaching_otherLocale() {
+		return siteResolutionCachingLocalizedNameProvider.getLocalizedPropertyName(node, "title", Locale.GERMANY);
+	}
+}
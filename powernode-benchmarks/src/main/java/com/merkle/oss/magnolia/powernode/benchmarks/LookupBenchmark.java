@@ -0,0 +1,99 @@
+package com.merkle.oss.magnolia.powernode.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.jcr.Node;
+import javax.jcr.PathNotFoundException;
+import javax.jcr.Property;
+import javax.jcr.RepositoryException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.merkle.oss.magnolia.powernode.NodeService;
+import com.merkle.oss.magnolia.powernode.ValueConverter;
+import com.merkle.oss.magnolia.powernode.mock.MockSession;
+
+/**
+ * Existence probing lookups (NodeService) vs. catching PathNotFoundException (plain jcr) for different hit ratios.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+	private static final int LOOKUPS = 100;
+
+	/**
+	 * Percentage of existing children and properties.
+	 */
+	@Param({"0", "50", "90", "100"})
+	private int hitRatio;
+
+	private NodeService nodeService;
+	private Node node;
+	private String[] names;
+
+	@Setup
+	public void setUp() throws RepositoryException {
+		nodeService = Fixtures.nodeService();
+		node = new MockSession(Fixtures.WORKSPACE).getRootNode().addNode("component", "mgnl:component");
+		names = new String[LOOKUPS];
+		for (int i = 0; i < LOOKUPS; i++) {
+			names[i] = "name" + i;
+			if (i < hitRatio) {
+				node.addNode(names[i], "mgnl:contentNode");
+				nodeService.setProperty(node, names[i], "value" + i, ValueConverter::toValue);
+			}
+		}
+	}
+
+	@Benchmark
+	public void getChild(final Blackhole blackhole) {
+		for (String name : names) {
+			blackhole.consume(nodeService.getChild(node, name));
+		}
+	}
+
+	@Benchmark
+	public void getChild_exception(final Blackhole blackhole) throws RepositoryException {
+		for (String name : names) {
+			try {
+				blackhole.consume(node.getNode(name));
+			} catch (PathNotFoundException e) {
+				blackhole.consume(e);
+			}
+		}
+	}
+
+	@Benchmark
+	public void getProperty(final Blackhole blackhole) {
+		for (String name : names) {
+			blackhole.consume(nodeService.getProperty(node, name, ValueConverter::getString));
+		}
+	}
+
+	@Benchmark
+	public void getProperty_exception(final Blackhole blackhole) throws RepositoryException {
+		for (String name : names) {
+			try {
+				final Property property = node.getProperty(name);
+				blackhole.consume(property.getString());
+			} catch (PathNotFoundException e) {
+				blackhole.consume(e);
+			}
+		}
+	}
+}
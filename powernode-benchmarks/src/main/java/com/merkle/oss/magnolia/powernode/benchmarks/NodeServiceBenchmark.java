@@ -0,0 +1,182 @@
+package com.merkle.oss.magnolia.powernode.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.jcr.Node;
+import javax.jcr.RepositoryException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.merkle.oss.magnolia.powernode.NodeMemo;
+import com.merkle.oss.magnolia.powernode.NodeService;
+import com.merkle.oss.magnolia.powernode.NodeTraversal;
+import com.merkle.oss.magnolia.powernode.PropertyBag;
+import com.merkle.oss.magnolia.powernode.ValueConverter;
+import com.merkle.oss.magnolia.powernode.mock.MockSession;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NodeServiceBenchmark {
+	private static final Locale LOCALE = Locale.GERMAN;
+
+	@Param({"3"})
+	private int depth;
+	@Param({"10"})
+	private int childrenPerNode;
+
+	private NodeService nodeService;
+	private NodeService memoizingNodeService;
+	private Node tree;
+	private Node component;
+	private Node importRoot;
+	private int item;
+	private Node folder;
+	private Map<String, String> renames;
+	private Map<String, String> reverseRenames;
+	private boolean renamed;
+
+	@Setup
+	public void setUp() throws RepositoryException {
+		nodeService = Fixtures.nodeService();
+		final NodeMemo memo = new NodeMemo();
+		memoizingNodeService = Fixtures.nodeService(Fixtures.defaultLocalizedNameProvider(), session -> Optional.of(memo));
+		final MockSession session = new MockSession(Fixtures.WORKSPACE);
+		tree = Fixtures.addTree(session.getRootNode(), "tree", depth, childrenPerNode);
+		component = session.getRootNode().addNode("component", "mgnl:component");
+		importRoot = session.getRootNode().addNode("import", "mgnl:folder");
+		for (int i = 0; i < 100; i++) {
+			nodeService.getOrAddChild(importRoot, "mgnl:folder", "catalog/category/subCategory/item" + i);
+		}
+		folder = session.getRootNode().addNode("folder", "mgnl:folder");
+		renames = new LinkedHashMap<>();
+		reverseRenames = new LinkedHashMap<>();
+		for (int i = 0; i < 100; i++) {
+			folder.addNode("page" + i, "mgnl:page");
+			renames.put("page" + i, "slug" + i);
+			reverseRenames.put("slug" + i, "page" + i);
+		}
+		nodeService.setProperty(component, "title", "Some title", ValueConverter::toValue);
+		nodeService.setProperty(component, "title", LOCALE, "Irgendein Titel", ValueConverter::toValue);
+		nodeService.setProperty(component, "count", 42L, ValueConverter::toValue);
+		nodeService.setMultiProperty(component, "tags", List.of("tag0", "tag1", "tag2", "tag3", "tag4", "tag5", "tag6", "tag7", "tag8", "tag9"), ValueConverter::toValue);
+		nodeService.setMultiProperty(component, "tags", LOCALE, List.of("tag0", "tag1", "tag2", "tag3", "tag4", "tag5", "tag6", "tag7", "tag8", "tag9"), ValueConverter::toValue);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void streamChildrenRecursive(final Blackhole blackhole) {
+		nodeService.streamChildrenRecursive(tree).forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void streamChildrenRecursiveBreadthFirst(final Blackhole blackhole) {
+		nodeService.streamChildrenRecursiveBreadthFirst(tree).forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void streamChildrenRecursive_maxDepth(final Blackhole blackhole) {
+		nodeService.streamChildrenRecursive(tree, NodeTraversal.depthFirst().maxDepth(depth - 1)).forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void copyRecursive() throws RepositoryException {
+		final Node dest = tree.getSession().getRootNode().addNode("copy", "mgnl:page");
+		nodeService.copyRecursive(tree, dest);
+		dest.remove();
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void renameAll() {
+		nodeService.renameAll(folder, renamed ? reverseRenames : renames);
+		renamed = !renamed;
+	}
+
+	@Benchmark
+	public Node getOrAddChild_deep() {
+		return nodeService.getOrAddChild(importRoot, "mgnl:folder", "catalog/category/subCategory/item" + (item++ % 100));
+	}
+
+	@Benchmark
+	public Optional<String> getProperty() {
+		return nodeService.getProperty(component, "title", ValueConverter::getString);
+	}
+
+	@Benchmark
+	public Optional<String> getProperty_missing() {
+		return nodeService.getProperty(component, "missing", ValueConverter::getString);
+	}
+
+	@Benchmark
+	public Optional<String> getProperty_memoized() {
+		return memoizingNodeService.getProperty(component, "title", ValueConverter::getString);
+	}
+
+	@Benchmark
+	public Optional<String> getProperty_missing_memoized() {
+		return memoizingNodeService.getProperty(component, "missing", ValueConverter::getString);
+	}
+
+	@Benchmark
+	public Optional<Long> getProperty_long() {
+		return nodeService.getProperty(component, "count", ValueConverter::getLong);
+	}
+
+	@Benchmark
+	public long getLongOrDefault() {
+		return nodeService.getLongOrDefault(component, "count", 0L);
+	}
+
+	@Benchmark
+	public Optional<String> getProperty_localized() {
+		return nodeService.getProperty(component, "title", LOCALE, ValueConverter::getString);
+	}
+
+	@Benchmark
+	public void getProperty_three(final Blackhole blackhole) {
+		blackhole.consume(nodeService.getProperty(component, "title", ValueConverter::getString));
+		blackhole.consume(nodeService.getProperty(component, "count", ValueConverter::getLong));
+		blackhole.consume(nodeService.getProperty(component, "missing", ValueConverter::getString));
+	}
+
+	@Benchmark
+	public void getPropertyBag_three(final Blackhole blackhole) {
+		final PropertyBag propertyBag = nodeService.getPropertyBag(component, "title", "count", "missing");
+		blackhole.consume(propertyBag.getProperty("title", ValueConverter::getString));
+		blackhole.consume(propertyBag.getProperty("count", ValueConverter::getLong));
+		blackhole.consume(propertyBag.getProperty("missing", ValueConverter::getString));
+	}
+
+	@Benchmark
+	public void streamMultiProperty(final Blackhole blackhole) {
+		nodeService.streamMultiProperty(component, "tags", ValueConverter::getString).forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void streamMultiProperty_localized(final Blackhole blackhole) {
+		nodeService.streamMultiProperty(component, "tags", LOCALE, ValueConverter::getString).forEach(blackhole::consume);
+	}
+}
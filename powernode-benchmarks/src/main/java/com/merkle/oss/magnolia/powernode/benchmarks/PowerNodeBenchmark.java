@@ -0,0 +1,93 @@
+package com.merkle.oss.magnolia.powernode.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.jcr.Node;
+import javax.jcr.RepositoryException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.merkle.oss.magnolia.powernode.PowerNode;
+import com.merkle.oss.magnolia.powernode.PowerNodeDecorator;
+import com.merkle.oss.magnolia.powernode.mock.MockSession;
+import com.merkle.oss.magnolia.powernode.predicate.magnolia.IsPage;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PowerNodeBenchmark {
+	@Param({"2"})
+	private int depth;
+	@Param({"10"})
+	private int childrenPerNode;
+
+	private PowerNodeDecorator decorator;
+	private PowerNodeDecorator cachingDecorator;
+	private Node node;
+	private PowerNode powerNode;
+	private PowerNode cachingPowerNode;
+
+	@Setup
+	public void setUp() throws RepositoryException {
+		decorator = new PowerNodeDecorator(Fixtures.nodeService());
+		node = Fixtures.addTree(new MockSession(Fixtures.WORKSPACE).getRootNode(), "tree", depth, childrenPerNode);
+		powerNode = decorator.wrapNode(node);
+		cachingDecorator = new PowerNodeDecorator(Fixtures.nodeService(), true);
+		cachingPowerNode = cachingDecorator.wrapNode(node);
+	}
+
+	@Benchmark
+	public PowerNode wrapNode() {
+		return decorator.wrapNode(node);
+	}
+
+	@Benchmark
+	public PowerNode wrapNode_cached() {
+		return cachingDecorator.wrapNode(node);
+	}
+
+	@Benchmark
+	public int hashCode_powerNode() {
+		return powerNode.hashCode();
+	}
+
+	@Benchmark
+	public long streamChildren_distinct() {
+		return powerNode.streamChildren().distinct().count();
+	}
+
+	@Benchmark
+	public void streamChildren(final Blackhole blackhole) {
+		powerNode.streamChildren().forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void streamChildren_predicate(final Blackhole blackhole) {
+		powerNode.streamChildren(new IsPage<>()).forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public void streamChildren_predicate_cached(final Blackhole blackhole) {
+		cachingPowerNode.streamChildren(new IsPage<>()).forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void streamChildrenRecursive(final Blackhole blackhole) {
+		powerNode.streamChildrenRecursive().forEach(blackhole::consume);
+	}
+}
@@ -0,0 +1,112 @@
+package com.merkle.oss.magnolia.powernode.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.jcr.RepositoryException;
+import javax.jcr.Value;
+
+import org.apache.jackrabbit.commons.SimpleValueFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.merkle.oss.magnolia.powernode.ValueConverter;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueConverterBenchmark {
+	private static final int LISTING_SIZE = 100;
+
+	private ValueConverter valueConverter;
+	private Value[] listingValues;
+	private Instant instant;
+	private LocalDateTime localDateTime;
+	private Date date;
+	private Value dateValue;
+
+	@Setup
+	public void setUp() {
+		valueConverter = Fixtures.valueConverterFactory().create(new SimpleValueFactory());
+		instant = Instant.parse("2024-03-01T10:15:30.00Z");
+		localDateTime = LocalDateTime.of(2024, 3, 1, 10, 15, 30);
+		date = Date.from(instant);
+		dateValue = valueConverter.toValue(instant).orElseThrow();
+		listingValues = new Value[LISTING_SIZE];
+		for (int i = 0; i < LISTING_SIZE; i++) {
+			listingValues[i] = valueConverter.toValue(instant.plus(Duration.ofDays(i))).orElseThrow();
+		}
+	}
+
+	@Benchmark
+	public Optional<Value> toValue_instant() {
+		return valueConverter.toValue(instant);
+	}
+
+	@Benchmark
+	public Optional<Value> toValue_localDateTime() {
+		return valueConverter.toValue(localDateTime);
+	}
+
+	@Benchmark
+	public Optional<Value> toValue_date() {
+		return valueConverter.toValue(date);
+	}
+
+	@Benchmark
+	public Optional<Instant> getInstant() throws RepositoryException {
+		return valueConverter.getInstant(dateValue);
+	}
+
+	@Benchmark
+	public Optional<LocalDate> getLocalDate() throws RepositoryException {
+		return valueConverter.getLocalDate(dateValue);
+	}
+
+	@Benchmark
+	public Optional<LocalDateTime> getLocalDateTime() throws RepositoryException {
+		return valueConverter.getLocalDateTime(dateValue);
+	}
+
+	/**
+	 * Date heavy listing, e.g. start and end date of 100 events.
+	 */
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void getLocalDateTime_listing(final Blackhole blackhole) throws RepositoryException {
+		for (Value value : listingValues) {
+			blackhole.consume(valueConverter.getLocalDateTime(value));
+		}
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public void toValue_localDateTime_listing(final Blackhole blackhole) {
+		for (int i = 0; i < LISTING_SIZE; i++) {
+			blackhole.consume(valueConverter.toValue(localDateTime.plusDays(i)));
+		}
+	}
+
+	@Benchmark
+	public Optional<ZonedDateTime> getZonedDateTime() throws RepositoryException {
+		return valueConverter.getZonedDateTime(dateValue);
+	}
+}
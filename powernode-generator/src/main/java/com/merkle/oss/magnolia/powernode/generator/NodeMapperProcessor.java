@@ -0,0 +1,273 @@
+package com.merkle.oss.magnolia.powernode.generator;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Generated;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterSpec;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+/**
+ * Generates mapper classes for records and interfaces annotated with {@code @NodeMapper}.<br>
+ * Powernode and jcr classes are referenced by name only, so the processor doesn't need them on the processor path.
+ */
+@SupportedAnnotationTypes(NodeMapperProcessor.NODE_MAPPER)
+public class NodeMapperProcessor extends AbstractProcessor {
+	static final String NODE_MAPPER = "com.merkle.oss.magnolia.powernode.mapper.NodeMapper";
+	private static final String NODE_PROPERTY = "com.merkle.oss.magnolia.powernode.mapper.NodeProperty";
+	private static final String POWERNODE_PACKAGE = "com.merkle.oss.magnolia.powernode";
+	private static final ClassName NODE_SERVICE = ClassName.get(POWERNODE_PACKAGE, "NodeService");
+	private static final ClassName PROPERTY_BAG = ClassName.get(POWERNODE_PACKAGE, "PropertyBag");
+	private static final ClassName VALUE_CONVERTER = ClassName.get(POWERNODE_PACKAGE, "ValueConverter");
+	private static final ClassName NODE = ClassName.get("javax.jcr", "Node");
+	private static final ClassName INJECT = ClassName.get("jakarta.inject", "Inject");
+	private static final Map<String, String> CONVERTERS = Map.ofEntries(
+			Map.entry("java.lang.String", "getString"),
+			Map.entry("java.lang.Long", "getLong"),
+			Map.entry("java.lang.Integer", "getInteger"),
+			Map.entry("java.lang.Double", "getDouble"),
+			Map.entry("java.lang.Boolean", "getBoolean"),
+			Map.entry("java.math.BigDecimal", "getDecimal"),
+			Map.entry("java.util.Date", "getDate"),
+			Map.entry("java.time.Instant", "getInstant"),
+			Map.entry("java.time.LocalDate", "getLocalDate"),
+			Map.entry("java.time.LocalDateTime", "getLocalDateTime"),
+			Map.entry("java.time.ZonedDateTime", "getZonedDateTime"),
+			Map.entry("javax.jcr.Binary", "getBinary")
+	);
+	private static final Map<TypeKind, String> PRIMITIVE_DEFAULTS = Map.of(
+			TypeKind.LONG, "0L",
+			TypeKind.INT, "0",
+			TypeKind.DOUBLE, "0d",
+			TypeKind.BOOLEAN, "false"
+	);
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		for (TypeElement annotation : annotations) {
+			for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+				try {
+					generate(type).writeTo(processingEnv.getFiler());
+				} catch (UnsupportedElementException e) {
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+				} catch (IOException e) {
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write mapper: " + e.getMessage(), type);
+				}
+			}
+		}
+		return true;
+	}
+
+	private JavaFile generate(final TypeElement type) {
+		if (!type.getTypeParameters().isEmpty()) {
+			throw new UnsupportedElementException(type, "@NodeMapper doesn't support generic types");
+		}
+		final ClassName typeName = ClassName.get(type);
+		final ClassName mapperName = ClassName.get(typeName.packageName(), String.join("_", typeName.simpleNames()) + "Mapper");
+		final List<Component> components = getComponents(type);
+
+		final TypeSpec.Builder mapper = TypeSpec.classBuilder(mapperName)
+				.addAnnotation(AnnotationSpec.builder(Generated.class).addMember("value", "$S", getClass().getName()).build())
+				.addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+				.addField(FieldSpec.builder(String[].class, "PROPERTY_NAMES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+						.initializer("{$L}", components.stream().map(component -> CodeBlock.of("$S", component.propertyName)).collect(CodeBlock.joining(", ")))
+						.build()
+				)
+				.addField(NODE_SERVICE, "nodeService", Modifier.PRIVATE, Modifier.FINAL)
+				.addMethod(MethodSpec.constructorBuilder()
+						.addAnnotation(INJECT)
+						.addModifiers(Modifier.PUBLIC)
+						.addParameter(NODE_SERVICE, "nodeService", Modifier.FINAL)
+						.addStatement("this.nodeService = nodeService")
+						.build()
+				)
+				.addMethod(MethodSpec.methodBuilder("map")
+						.addModifiers(Modifier.PUBLIC)
+						.addParameter(NODE, "node", Modifier.FINAL)
+						.returns(typeName)
+						.addStatement("return map(nodeService.getPropertyBag(node, PROPERTY_NAMES))")
+						.build()
+				)
+				.addMethod(MethodSpec.methodBuilder("map")
+						.addModifiers(Modifier.PUBLIC)
+						.addParameter(NODE, "node", Modifier.FINAL)
+						.addParameter(Locale.class, "locale", Modifier.FINAL)
+						.returns(typeName)
+						.addStatement("return map(nodeService.getPropertyBag(node, locale, PROPERTY_NAMES))")
+						.build()
+				);
+
+		final CodeBlock arguments = components.stream().map(this::getValue).collect(CodeBlock.joining(",\n"));
+		if (type.getKind() == ElementKind.INTERFACE) {
+			final ClassName implementationName = mapperName.nestedClass("Implementation");
+			mapper.addType(getImplementation(implementationName, typeName, components));
+			mapper.addMethod(getMapPropertyBagMethod(typeName, implementationName, arguments));
+		} else {
+			mapper.addMethod(getMapPropertyBagMethod(typeName, typeName, arguments));
+		}
+
+		return JavaFile.builder(mapperName.packageName(), mapper.build())
+				.skipJavaLangImports(true)
+				.indent("\t")
+				.build();
+	}
+
+	private MethodSpec getMapPropertyBagMethod(final ClassName typeName, final ClassName implementationName, final CodeBlock arguments) {
+		return MethodSpec.methodBuilder("map")
+				.addModifiers(Modifier.PUBLIC)
+				.addParameter(PROPERTY_BAG, "propertyBag", Modifier.FINAL)
+				.returns(typeName)
+				.addCode("return new $T(\n$>$L$<\n);\n", implementationName, arguments)
+				.build();
+	}
+
+	private TypeSpec getImplementation(final ClassName implementationName, final ClassName typeName, final List<Component> components) {
+		final TypeSpec.Builder implementation = TypeSpec.classBuilder(implementationName)
+				.addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+				.addSuperinterface(typeName);
+		final MethodSpec.Builder constructor = MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE);
+		for (Component component : components) {
+			final TypeName componentType = TypeName.get(component.type);
+			implementation.addField(componentType, component.name, Modifier.PRIVATE, Modifier.FINAL);
+			constructor.addParameter(ParameterSpec.builder(componentType, component.name, Modifier.FINAL).build());
+			constructor.addStatement("this.$N = $N", component.name, component.name);
+			implementation.addMethod(MethodSpec.methodBuilder(component.name)
+					.addAnnotation(Override.class)
+					.addModifiers(Modifier.PUBLIC)
+					.returns(componentType)
+					.addStatement("return $N", component.name)
+					.build()
+			);
+		}
+		return implementation.addMethod(constructor.build()).build();
+	}
+
+	private List<Component> getComponents(final TypeElement type) {
+		if (type.getKind() == ElementKind.RECORD) {
+			return type.getRecordComponents().stream()
+					.map(component -> new Component(component, component.getSimpleName().toString(), getPropertyName(component), component.asType()))
+					.collect(Collectors.toList());
+		}
+		if (type.getKind() == ElementKind.INTERFACE) {
+			return ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type)).stream()
+					.filter(method -> method.getModifiers().contains(Modifier.ABSTRACT))
+					.peek(method -> {
+						if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+							throw new UnsupportedElementException(method, "@NodeMapper interfaces may only declare accessors without parameters");
+						}
+					})
+					.map(method -> new Component(method, method.getSimpleName().toString(), getPropertyName(method), method.getReturnType()))
+					.collect(Collectors.toList());
+		}
+		throw new UnsupportedElementException(type, "@NodeMapper is only supported on records and interfaces");
+	}
+
+	private String getPropertyName(final Element element) {
+		return element.getAnnotationMirrors().stream()
+				.filter(annotation -> isAnnotation(annotation, NODE_PROPERTY))
+				.flatMap(annotation -> annotation.getElementValues().values().stream())
+				.map(value -> (String) value.getValue())
+				.findFirst()
+				.orElseGet(() -> element.getSimpleName().toString());
+	}
+
+	private boolean isAnnotation(final AnnotationMirror annotation, final String annotationName) {
+		return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName);
+	}
+
+	private CodeBlock getValue(final Component component) {
+		if (component.type.getKind().isPrimitive()) {
+			final String converter = getConverter(component, processingEnv.getTypeUtils().boxedClass((PrimitiveType) component.type).asType());
+			return CodeBlock.of("propertyBag.getProperty($S, $T::$L).orElse($L)", component.propertyName, VALUE_CONVERTER, converter, PRIMITIVE_DEFAULTS.get(component.type.getKind()));
+		}
+		final String typeName = getQualifiedName(component.type);
+		if (Optional.class.getName().equals(typeName)) {
+			return CodeBlock.of("propertyBag.getProperty($S, $T::$L)", component.propertyName, VALUE_CONVERTER, getConverter(component, getTypeArgument(component)));
+		}
+		if (List.class.getName().equals(typeName)) {
+			return CodeBlock.of("propertyBag.streamMultiProperty($S, $T::$L).collect($T.toList())", component.propertyName, VALUE_CONVERTER, getConverter(component, getTypeArgument(component)), Collectors.class);
+		}
+		if (Set.class.getName().equals(typeName)) {
+			return CodeBlock.of("propertyBag.streamMultiProperty($S, $T::$L).collect($T.toSet())", component.propertyName, VALUE_CONVERTER, getConverter(component, getTypeArgument(component)), Collectors.class);
+		}
+		return CodeBlock.of("propertyBag.getProperty($S, $T::$L).orElse(null)", component.propertyName, VALUE_CONVERTER, getConverter(component, component.type));
+	}
+
+	private TypeMirror getTypeArgument(final Component component) {
+		final List<? extends TypeMirror> typeArguments = ((DeclaredType) component.type).getTypeArguments();
+		if (typeArguments.size() != 1) {
+			throw new UnsupportedElementException(component.element, "Raw type " + component.type + " is not supported");
+		}
+		return typeArguments.get(0);
+	}
+
+	private String getConverter(final Component component, final TypeMirror type) {
+		return Optional.ofNullable(CONVERTERS.get(getQualifiedName(type))).orElseThrow(() ->
+				new UnsupportedElementException(component.element, "Unsupported type " + type + ", supported: " + CONVERTERS.keySet())
+		);
+	}
+
+	private String getQualifiedName(final TypeMirror type) {
+		if (type instanceof DeclaredType declaredType) {
+			return ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+		}
+		return type.toString();
+	}
+
+	private static class Component {
+		private final Element element;
+		private final String name;
+		private final String propertyName;
+		private final TypeMirror type;
+
+		private Component(final Element element, final String name, final String propertyName, final TypeMirror type) {
+			this.element = element;
+			this.name = name;
+			this.propertyName = propertyName;
+			this.type = type;
+		}
+	}
+
+	private static class UnsupportedElementException extends RuntimeException {
+		private final Element element;
+
+		private UnsupportedElementException(final Element element, final String message) {
+			super(message);
+			this.element = element;
+		}
+	}
+}
@@ -27,6 +27,14 @@ public class PowerNodeDecoratorClassGenerator implements ClassGenerator {
 				.addAnnotation(Inject.class)
 				.addModifiers(Modifier.PUBLIC)
 				.addParameter(NodeService.class, "nodeService", Modifier.FINAL)
+				.addStatement("this(nodeService, false)")
+				.build();
+
+		final MethodSpec cachingConstructor = MethodSpec.constructorBuilder()
+				.addModifiers(Modifier.PUBLIC)
+				.addParameter(NodeService.class, "nodeService", Modifier.FINAL)
+				.addParameter(boolean.class, "cacheWrappers", Modifier.FINAL)
+				.addStatement("super(cacheWrappers)")
 				.addStatement("this.nodeService = nodeService")
 				.build();
 
@@ -52,6 +60,7 @@ public class PowerNodeDecoratorClassGenerator implements ClassGenerator {
 				.superclass(ParameterizedTypeName.get(ClassName.get(AbstractPowerNodeDecorator.class), PowerNodeClassGenerator.CLASS_NAME))
 				.addField(NodeService.class, "nodeService", Modifier.PRIVATE, Modifier.FINAL)
 				.addMethod(constructor)
+				.addMethod(cachingConstructor)
 				.addMethod(wrapNode)
 				.addMethod(unwrapNode)
 				.build();
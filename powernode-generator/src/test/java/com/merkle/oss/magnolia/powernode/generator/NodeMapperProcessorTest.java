@@ -0,0 +1,208 @@
+package com.merkle.oss.magnolia.powernode.generator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NodeMapperProcessorTest {
+	@TempDir
+	private Path output;
+
+	@Test
+	void record() {
+		final Compilation compilation = compile("test.Product", """
+				package test;
+
+				import com.merkle.oss.magnolia.powernode.mapper.NodeMapper;
+				import com.merkle.oss.magnolia.powernode.mapper.NodeProperty;
+				import java.time.Instant;
+				import java.util.List;
+				import java.util.Optional;
+				import java.util.Set;
+
+				@NodeMapper
+				public record Product(String title, @NodeProperty("sku") Optional<Long> number, List<String> tags, Set<Instant> dates, long views, boolean active) {}
+				""");
+		assertEquals(List.of(), compilation.errors);
+		final String mapper = compilation.getGeneratedSource("test/ProductMapper.java");
+		assertTrue(mapper.contains("PROPERTY_NAMES = {\"title\", \"sku\", \"tags\", \"dates\", \"views\", \"active\"}"), mapper);
+		assertTrue(mapper.contains("public Product map(final Node node)"), mapper);
+		assertTrue(mapper.contains("propertyBag.getProperty(\"title\", ValueConverter::getString).orElse(null)"), mapper);
+		assertTrue(mapper.contains("propertyBag.getProperty(\"sku\", ValueConverter::getLong)"), mapper);
+		assertTrue(mapper.contains("propertyBag.streamMultiProperty(\"tags\", ValueConverter::getString).collect(Collectors.toList())"), mapper);
+		assertTrue(mapper.contains("propertyBag.streamMultiProperty(\"dates\", ValueConverter::getInstant).collect(Collectors.toSet())"), mapper);
+		assertTrue(mapper.contains("propertyBag.getProperty(\"views\", ValueConverter::getLong).orElse(0L)"), mapper);
+		assertTrue(mapper.contains("propertyBag.getProperty(\"active\", ValueConverter::getBoolean).orElse(false)"), mapper);
+	}
+
+	@Test
+	void nestedInterface() {
+		final Compilation compilation = compile("test.Teasers", """
+				package test;
+
+				import com.merkle.oss.magnolia.powernode.mapper.NodeMapper;
+				import com.merkle.oss.magnolia.powernode.mapper.NodeProperty;
+				import java.time.LocalDate;
+				import java.util.Optional;
+
+				public class Teasers {
+					@NodeMapper
+					public interface Teaser {
+						String title();
+						@NodeProperty("publishDate")
+						Optional<LocalDate> date();
+						int position();
+						default String label() {
+							return position() + ". " + title();
+						}
+					}
+				}
+				""");
+		assertEquals(List.of(), compilation.errors);
+		final String mapper = compilation.getGeneratedSource("test/Teasers_TeaserMapper.java");
+		assertTrue(mapper.contains("PROPERTY_NAMES = {\"title\", \"publishDate\", \"position\"}"), mapper);
+		assertTrue(mapper.contains("private static final class Implementation implements Teasers.Teaser"), mapper);
+		assertTrue(mapper.contains("return new Implementation("), mapper);
+		assertTrue(mapper.contains("propertyBag.getProperty(\"publishDate\", ValueConverter::getLocalDate)"), mapper);
+		assertTrue(mapper.contains("propertyBag.getProperty(\"position\", ValueConverter::getInteger).orElse(0)"), mapper);
+		assertFalse(mapper.contains("label"), mapper);
+	}
+
+	@Test
+	void unsupportedType() {
+		assertEquals(
+				List.of("Unsupported type java.lang.Object, supported: "),
+				compile("test.Product", """
+						package test;
+
+						@com.merkle.oss.magnolia.powernode.mapper.NodeMapper
+						public record Product(String title, Object payload) {}
+						""").getErrorPrefixes("Unsupported type java.lang.Object, supported: ")
+		);
+		assertEquals(
+				List.of("Unsupported type java.lang.Object, supported: "),
+				compile("test.Product", """
+						package test;
+
+						@com.merkle.oss.magnolia.powernode.mapper.NodeMapper
+						public record Product(java.util.List<Object> payload) {}
+						""").getErrorPrefixes("Unsupported type java.lang.Object, supported: ")
+		);
+	}
+
+	@Test
+	void unsupportedSignatures() {
+		assertEquals(
+				List.of("Raw type java.util.Optional is not supported"),
+				compile("test.Product", """
+						package test;
+
+						@com.merkle.oss.magnolia.powernode.mapper.NodeMapper
+						public record Product(@SuppressWarnings("rawtypes") java.util.Optional title) {}
+						""").errors
+		);
+		assertEquals(
+				List.of("@NodeMapper interfaces may only declare accessors without parameters"),
+				compile("test.Product", """
+						package test;
+
+						@com.merkle.oss.magnolia.powernode.mapper.NodeMapper
+						public interface Product {
+							String title(String language);
+						}
+						""").errors
+		);
+		assertEquals(
+				List.of("@NodeMapper interfaces may only declare accessors without parameters"),
+				compile("test.Product", """
+						package test;
+
+						@com.merkle.oss.magnolia.powernode.mapper.NodeMapper
+						public interface Product {
+							void title();
+						}
+						""").errors
+		);
+		assertEquals(
+				List.of("@NodeMapper doesn't support generic types"),
+				compile("test.Product", """
+						package test;
+
+						@com.merkle.oss.magnolia.powernode.mapper.NodeMapper
+						public record Product<T>(String title) {}
+						""").errors
+		);
+		assertEquals(
+				List.of("@NodeMapper is only supported on records and interfaces"),
+				compile("test.Product", """
+						package test;
+
+						@com.merkle.oss.magnolia.powernode.mapper.NodeMapper
+						public class Product {}
+						""").errors
+		);
+	}
+
+	private Compilation compile(final String className, final String source) {
+		final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		final JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+			@Override
+			public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+				return source;
+			}
+		};
+		final JavaCompiler.CompilationTask task = compiler.getTask(
+				null,
+				null,
+				diagnostics,
+				List.of("-classpath", System.getProperty("java.class.path"), "-d", output.toString(), "-s", output.toString()),
+				null,
+				List.of(file)
+		);
+		task.setProcessors(List.of(new NodeMapperProcessor()));
+		task.call();
+		return new Compilation(diagnostics.getDiagnostics().stream()
+				.filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+				.map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+				.collect(Collectors.toList())
+		);
+	}
+
+	private class Compilation {
+		private final List<String> errors;
+
+		private Compilation(final List<String> errors) {
+			this.errors = errors;
+		}
+
+		private String getGeneratedSource(final String path) {
+			try {
+				return Files.readString(output.resolve(path));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		private List<String> getErrorPrefixes(final String prefix) {
+			return errors.stream().map(error -> error.startsWith(prefix) ? prefix : error).collect(Collectors.toList());
+		}
+	}
+}